@@ -0,0 +1,267 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.arn.benchmarks;
+
+import com.mojang.brigadier.Command;
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.builder.ArgumentBuilder;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import dev.efekos.arn.common.CommandAnnotationLiteral;
+import dev.efekos.arn.common.annotation.CommandArgument;
+import dev.efekos.arn.common.annotation.CustomArgument;
+import dev.efekos.arn.common.annotation.Helper;
+import dev.efekos.arn.common.base.BaseExceptionHandlerMethod;
+import dev.efekos.arn.common.container.ContainerProvider;
+import dev.efekos.arn.common.diagnostics.DiagnosticLine;
+import dev.efekos.arn.common.engine.ArnEngine;
+import dev.efekos.arn.common.exception.ArnException;
+import dev.efekos.arn.common.index.ClassIndex;
+import dev.efekos.arn.common.index.ContainerIndex;
+import dev.efekos.arn.common.index.ContainerRole;
+import dev.efekos.arn.common.jfr.StartupPhaseEvent;
+import dev.efekos.arn.common.metrics.Allocations;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.*;
+
+/**
+ * Registers commands into a plain {@link CommandDispatcher} through the same {@link ArnEngine} the platforms use, so
+ * validation, command trees and the command lambda are exactly the ones a server would run. {@link #run(ClassIndex)}
+ * goes through the same startup phases as {@code SpigotArn#run}, and records the cost of every phase.
+ *
+ * @author efekos
+ * @since 0.4
+ */
+public final class BenchArn extends ArnEngine<BenchSource, BenchCommandMethod, BenchCommandMethod.CmdResolver, BenchCommandMethod.HndResolver> {
+
+    private final CommandDispatcher<BenchSource> dispatcher = new CommandDispatcher<>();
+    private final List<StartupPhase> startupPhases = new ArrayList<>();
+
+    /**
+     * Creates a new instance without any commands. Commands are registered by {@link #run(Class)} or
+     * {@link #run(ClassIndex)}.
+     */
+    public BenchArn() {
+        super("Bench", Runnable::run);
+        getHandlerResolvers().addAll(BenchResolvers.handlerResolvers());
+        getCommandResolvers().addAll(BenchResolvers.commandResolvers());
+    }
+
+    /**
+     * Creates a new instance and registers every command and exception handler method of the given containers.
+     *
+     * @param containers Container classes.
+     */
+    public BenchArn(Class<?>... containers) {
+        this();
+        run(new BenchClassIndex(containers));
+    }
+
+    /**
+     * Scans the package of the given class the same way the platforms do, using the generated index of the package if
+     * there is one, and registers every command found.
+     *
+     * @param mainClass Main class whose package will be scanned.
+     */
+    public void run(Class<?> mainClass) {
+        run(phase("indexClasses", () -> ClassIndex.of(mainClass)));
+    }
+
+    /**
+     * Registers every command of the containers in the given index.
+     *
+     * @param classIndex Index to get containers from.
+     * @throws IllegalStateException If a container or a command is invalid.
+     */
+    public void run(ClassIndex classIndex) {
+        ContainerIndex index = index(classIndex, Set.of(), Void.class, BenchCustomArgumentType.class, false);
+
+        try {
+            phase("createContainerInstances", () -> createContainerProviders(index));
+            phase("scanEnumArguments", () -> scanEnumArguments(index));
+            phase("scanCustomArguments", () -> scanCustomArguments(index));
+            phase("scanExceptionHandlerMethods", () -> scanExceptionHandlerMethods(index));
+            phase("scanCommands", () -> scanCommands(index));
+            phase("registerCommands", () -> {
+                buildCommands();
+                register(dispatcher);
+            });
+            phase("registerHelpers", () -> registerHelpers(index));
+        } catch (ArnException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Runs a startup phase, also recording its duration and allocated bytes in {@link #getStartupPhases()}.
+     */
+    @Override
+    public <T, E extends Exception> T phase(String name, StartupPhaseEvent.Computation<T, E> computation) throws E {
+        long allocated = Allocations.current();
+        long start = System.nanoTime();
+        T result = super.phase(name, computation);
+        long nanos = System.nanoTime() - start;
+        startupPhases.add(new StartupPhase(name, nanos, allocated < 0 ? -1 : Allocations.current() - allocated));
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void scanEnumArguments(ContainerIndex index) {
+        for (Class<?> aClass : index.get(ContainerRole.ENUM_ARGUMENT)) {
+            Class<? extends Enum<?>> enumC = (Class<? extends Enum<?>>) aClass;
+
+            CustomArgument customArgument = enumC.getAnnotation(CustomArgument.class);
+            if (!customArgument.value().matches("^([a-z0-9_.-]+:)?[a-z0-9_./-]+$"))
+                throw new IllegalStateException(aClass.getName() + " has an invalid key");
+            if (enumC.getEnumConstants().length == 0)
+                throw new IllegalStateException(aClass.getName() + " has no constants");
+            if (Arrays.stream(enumC.getEnumConstants())
+                    .anyMatch(constant -> !constant.name().toUpperCase(Locale.ENGLISH).equals(constant.name())))
+                throw new IllegalStateException(aClass.getName() + " has lower-case constants");
+
+            getHandlerResolvers().add(new BenchResolvers.HndEnum(enumC));
+            getCommandResolvers().add(new BenchResolvers.CmdEnum(enumC));
+        }
+    }
+
+    private void scanCustomArguments(ContainerIndex index) {
+        for (Class<?> customArgumentClass : index.get(ContainerRole.CUSTOM_ARGUMENT)) {
+            BenchCustomArgumentType<?> o = (BenchCustomArgumentType<?>) getContainerInstance(customArgumentClass);
+
+            getHandlerResolvers().add(new BenchResolvers.HndCustom(o));
+            getCommandResolvers().add(new BenchResolvers.CmdCustom(o));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void registerHelpers(ContainerIndex index) {
+        for (Class<?> helperClass : index.get(ContainerRole.HELPER)) {
+            List<BenchCommandMethod> associatedHelperMethods = getHandlers().stream().filter(
+                            commandHandlerMethod -> commandHandlerMethod.getMethod().getDeclaringClass().equals(helperClass))
+                    .toList();
+
+            Command<BenchSource> lambda = s -> {
+                List<String> lines = new ArrayList<>();
+                for (BenchCommandMethod helperMethod : associatedHelperMethods) {
+                    StringBuilder builder = new StringBuilder("/");
+                    for (CommandAnnotationLiteral lit : helperMethod.getAnnotationData().getLiterals())
+                        builder.append(lit.getLiteral()).append(' ');
+                    for (Parameter parameter : helperMethod.getParameters())
+                        if (parameter.isAnnotationPresent(CommandArgument.class))
+                            builder.append('<').append(parameter.getName()).append("> ");
+                    lines.add(builder.append("- ").append(helperMethod.getAnnotationData().getDescription()).toString());
+                }
+                return lines.size();
+            };
+
+            List<ArgumentBuilder<BenchSource, ?>> builders = new ArrayList<>();
+            for (String s : helperClass.getAnnotation(Helper.class).value()
+                    .split("\\" + CommandAnnotationLiteral.SEPARATOR_CHAR_STRING))
+                builders.add(LiteralArgumentBuilder.literal(CommandAnnotationLiteral.parse(s).getLiteral()));
+            dispatcher.register((LiteralArgumentBuilder<BenchSource>) chain(builders, lambda));
+        }
+    }
+
+    @Override
+    protected BenchCommandMethod createHandlerMethod() {
+        return new BenchCommandMethod();
+    }
+
+    @Override
+    protected BaseExceptionHandlerMethod<CommandContext<BenchSource>> createExceptionHandlerMethod(Method method, Class<? extends Exception> exceptionClass) {
+        return new BenchExceptionHandlerMethod(method, exceptionClass);
+    }
+
+    @Override
+    protected Object getSender(BenchSource source) {
+        return source;
+    }
+
+    @Override
+    protected String getSenderName(BenchSource source) {
+        return source.name();
+    }
+
+    @Override
+    protected boolean hasPermission(BenchSource source, String permission) {
+        return !source.name().isEmpty();
+    }
+
+    @Override
+    protected void runSync(Runnable task) {
+        task.run();
+    }
+
+    @Override
+    protected void sendError(BenchSource source, String message) {
+    }
+
+    @Override
+    protected void sendDiagnostic(BenchSource source, DiagnosticLine line) {
+    }
+
+    /**
+     * Returns the dispatcher commands are registered to.
+     *
+     * @return The dispatcher.
+     */
+    public CommandDispatcher<BenchSource> getDispatcher() {
+        return dispatcher;
+    }
+
+    /**
+     * Returns the handler method of the given command.
+     *
+     * @param command Value of the {@link dev.efekos.arn.common.annotation.Command} annotation of the method.
+     * @return The handler method, or {@code null} if there isn't one.
+     */
+    public BenchCommandMethod getHandler(String command) {
+        for (BenchCommandMethod handler : getHandlers())
+            if (handler.getCommand().equals(command)) return handler;
+        return null;
+    }
+
+    /**
+     * Returns the provider of the given container.
+     *
+     * @param container A container class.
+     * @return Provider of the container.
+     */
+    public ContainerProvider getContainerProvider(Class<?> container) {
+        return getContainerProviders().get(container);
+    }
+
+    /**
+     * Returns the cost of every startup phase this instance went through, in the order they ran.
+     *
+     * @return An unmodifiable list of startup phases.
+     */
+    public List<StartupPhase> getStartupPhases() {
+        return Collections.unmodifiableList(startupPhases);
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.arn.benchmarks;
+
+import dev.efekos.arn.common.index.ClassIndex;
+import dev.efekos.arn.common.invoke.MethodInvoker;
+import dev.efekos.arn.common.invoke.MethodInvokers;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * A {@link ClassIndex} of a fixed set of containers, used when a benchmark doesn't need to measure scanning.
+ *
+ * @author efekos
+ * @since 0.4
+ */
+public final class BenchClassIndex implements ClassIndex {
+
+    private final Set<Class<?>> containers;
+
+    /**
+     * Creates a new index.
+     *
+     * @param containers Every container of the index.
+     */
+    public BenchClassIndex(Class<?>... containers) {
+        this.containers = new LinkedHashSet<>(Arrays.asList(containers));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Class<?>> getContainers() {
+        return containers;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Set<Class<? extends T>> getSubTypesOf(Class<T> type) {
+        return containers.stream().filter(type::isAssignableFrom).map(clazz -> (Class<? extends T>) clazz)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MethodInvoker getInvoker(Method method) {
+        return MethodInvokers.compile(method);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isGenerated() {
+        return false;
+    }
+
+}
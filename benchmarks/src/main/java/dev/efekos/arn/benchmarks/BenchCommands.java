@@ -0,0 +1,65 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.arn.benchmarks;
+
+import dev.efekos.arn.common.annotation.Command;
+import dev.efekos.arn.common.annotation.CommandArgument;
+import dev.efekos.arn.common.annotation.Container;
+import dev.efekos.arn.common.annotation.ExceptionHandler;
+
+/**
+ * Commands executed by {@link DispatchBenchmark}.
+ *
+ * @author efekos
+ * @since 0.4
+ */
+@Container
+public class BenchCommands {
+
+    @Command("bench.ping")
+    public int ping() {
+        return 1;
+    }
+
+    @Command("bench.add")
+    public int add(BenchSource source, @CommandArgument("a") int a, @CommandArgument("b") int b) {
+        return a + b;
+    }
+
+    @Command("bench.echo")
+    public int echo(BenchSource source, @CommandArgument("word") String word) {
+        return word.length();
+    }
+
+    @Command("bench.fail")
+    public int fail(@CommandArgument("code") int code) {
+        throw new IllegalStateException("Failed with " + code);
+    }
+
+    @ExceptionHandler(IllegalStateException.class)
+    public void handle(IllegalStateException exception, BenchSource source) {
+    }
+
+}
@@ -0,0 +1,49 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.arn.benchmarks;
+
+import dev.efekos.arn.common.base.BaseCustomArgumentType;
+
+/**
+ * Custom argument types of the benchmark platform. Every custom argument is a single word that is parsed by
+ * {@link #parse(Object, String)}.
+ *
+ * @param <T> Type of the custom argument.
+ * @author efekos
+ * @since 0.4
+ */
+public interface BenchCustomArgumentType<T> extends BaseCustomArgumentType<T, Void, BenchSource> {
+
+    /**
+     * Returns {@code null}, since the benchmark platform registers every custom argument as a single word.
+     *
+     * @return {@code null}.
+     */
+    @Override
+    default Void getRegistration() {
+        return null;
+    }
+
+}
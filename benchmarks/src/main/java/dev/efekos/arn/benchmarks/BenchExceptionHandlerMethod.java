@@ -0,0 +1,60 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.arn.benchmarks;
+
+import com.mojang.brigadier.context.CommandContext;
+import dev.efekos.arn.common.base.BaseExceptionHandlerMethod;
+
+import java.lang.reflect.Method;
+
+/**
+ * Exception handler methods registered by {@link BenchArn}.
+ *
+ * @author efekos
+ * @since 0.4
+ */
+public final class BenchExceptionHandlerMethod extends BaseExceptionHandlerMethod<CommandContext<BenchSource>> {
+
+    /**
+     * Creates a new exception handler method.
+     *
+     * @param method         The method.
+     * @param exceptionClass Type of the exception the method handles.
+     */
+    public BenchExceptionHandlerMethod(Method method, Class<? extends Exception> exceptionClass) {
+        super(method, exceptionClass);
+    }
+
+    @Override
+    protected boolean isSenderParameter(Class<?> type) {
+        return type == BenchSource.class;
+    }
+
+    @Override
+    protected Object getSender(CommandContext<BenchSource> commandContext) {
+        return commandContext.getSource();
+    }
+
+}
@@ -0,0 +1,342 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.arn.benchmarks;
+
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.builder.ArgumentBuilder;
+import com.mojang.brigadier.builder.RequiredArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import dev.efekos.arn.common.annotation.CommandArgument;
+import dev.efekos.arn.common.annotation.CustomArgument;
+import dev.efekos.arn.common.exception.ArnSyntaxException;
+import dev.efekos.arn.common.exception.DynamicArnExceptionType;
+import dev.efekos.arn.common.resolver.EnumLookup;
+import dev.efekos.arn.common.resolver.PrefixIndex;
+
+import java.lang.reflect.Parameter;
+import java.util.List;
+
+/**
+ * Resolvers of the benchmark platform. They do the same amount of work as the resolvers of the real platforms for the
+ * same argument types.
+ *
+ * @author efekos
+ * @since 0.4
+ */
+public final class BenchResolvers {
+
+    /**
+     * Thrown by {@link HndInt} when an argument is negative, to benchmark resolvers that reject arguments.
+     */
+    public static final DynamicArnExceptionType<ArnSyntaxException, String> NEGATIVE =
+            new DynamicArnExceptionType<>(name -> new ArnSyntaxException(name + " can't be negative"));
+
+    /**
+     * Thrown by {@link HndEnum} when an argument isn't a constant of the enum.
+     */
+    public static final DynamicArnExceptionType<ArnSyntaxException, String> UNKNOWN_CONSTANT =
+            new DynamicArnExceptionType<>(input -> new ArnSyntaxException("Unknown constant: " + input));
+
+    private BenchResolvers() {
+    }
+
+    /**
+     * Returns every handler method argument resolver.
+     *
+     * @return A new list of resolvers.
+     */
+    public static List<BenchCommandMethod.HndResolver> handlerResolvers() {
+        return List.of(new HndSource(), new HndInt(), new HndWord());
+    }
+
+    /**
+     * Returns every command argument resolver.
+     *
+     * @return A new list of resolvers.
+     */
+    public static List<BenchCommandMethod.CmdResolver> commandResolvers() {
+        return List.of(new CmdInt(), new CmdWord());
+    }
+
+    /**
+     * Resolves the sender of the command.
+     */
+    public static final class HndSource implements BenchCommandMethod.HndResolver {
+
+        @Override
+        public boolean isApplicable(Parameter parameter) {
+            return parameter.getType() == BenchSource.class && !parameter.isAnnotationPresent(CommandArgument.class);
+        }
+
+        @Override
+        public boolean requireCommandArgument() {
+            return false;
+        }
+
+        @Override
+        public Object resolve(Parameter parameter, BenchCommandMethod method, CommandContext<BenchSource> context) {
+            return context.getSource();
+        }
+
+    }
+
+    /**
+     * Resolves non-negative {@code int} arguments.
+     */
+    public static final class HndInt implements BenchCommandMethod.HndResolver {
+
+        @Override
+        public boolean isApplicable(Parameter parameter) {
+            return parameter.getType() == int.class && parameter.isAnnotationPresent(CommandArgument.class);
+        }
+
+        @Override
+        public boolean requireCommandArgument() {
+            return true;
+        }
+
+        @Override
+        public Object resolve(Parameter parameter, BenchCommandMethod method, CommandContext<BenchSource> context) throws ArnSyntaxException {
+            return resolve(parameter, getName(parameter), method, context);
+        }
+
+        @Override
+        public Object resolve(Parameter parameter, String name, BenchCommandMethod method, CommandContext<BenchSource> context) throws ArnSyntaxException {
+            int value = IntegerArgumentType.getInteger(context, name);
+            if (value < 0) throw NEGATIVE.create(name);
+            return value;
+        }
+
+    }
+
+    /**
+     * Creates {@code int} arguments.
+     */
+    public static final class CmdInt implements BenchCommandMethod.CmdResolver {
+
+        @Override
+        public boolean isApplicable(Parameter parameter) {
+            return parameter.getType() == int.class && parameter.isAnnotationPresent(CommandArgument.class);
+        }
+
+        @Override
+        public ArgumentBuilder<BenchSource, ?> apply(Parameter parameter) {
+            return RequiredArgumentBuilder.argument(getName(parameter), IntegerArgumentType.integer());
+        }
+
+    }
+
+    /**
+     * Resolves single word {@link String} arguments.
+     */
+    public static final class HndWord implements BenchCommandMethod.HndResolver {
+
+        @Override
+        public boolean isApplicable(Parameter parameter) {
+            return parameter.getType() == String.class && parameter.isAnnotationPresent(CommandArgument.class);
+        }
+
+        @Override
+        public boolean requireCommandArgument() {
+            return true;
+        }
+
+        @Override
+        public Object resolve(Parameter parameter, BenchCommandMethod method, CommandContext<BenchSource> context) {
+            return resolve(parameter, getName(parameter), method, context);
+        }
+
+        @Override
+        public Object resolve(Parameter parameter, String name, BenchCommandMethod method, CommandContext<BenchSource> context) {
+            return StringArgumentType.getString(context, name);
+        }
+
+    }
+
+    /**
+     * Creates single word {@link String} arguments.
+     */
+    public static final class CmdWord implements BenchCommandMethod.CmdResolver {
+
+        @Override
+        public boolean isApplicable(Parameter parameter) {
+            return parameter.getType() == String.class && parameter.isAnnotationPresent(CommandArgument.class);
+        }
+
+        @Override
+        public ArgumentBuilder<BenchSource, ?> apply(Parameter parameter) {
+            return RequiredArgumentBuilder.argument(getName(parameter), StringArgumentType.word());
+        }
+
+    }
+
+    /**
+     * Resolves {@link Enum} arguments annotated with {@link CustomArgument}.
+     */
+    public static final class HndEnum implements BenchCommandMethod.HndResolver {
+
+        private final Class<? extends Enum<?>> enumClass;
+        private final EnumLookup lookup;
+
+        /**
+         * Creates a new resolver.
+         *
+         * @param enumClass Enum this resolver resolves.
+         */
+        public HndEnum(Class<? extends Enum<?>> enumClass) {
+            this.enumClass = enumClass;
+            this.lookup = new EnumLookup(enumClass);
+        }
+
+        @Override
+        public boolean isApplicable(Parameter parameter) {
+            return parameter.getType().equals(enumClass) && parameter.isAnnotationPresent(CommandArgument.class);
+        }
+
+        @Override
+        public boolean requireCommandArgument() {
+            return true;
+        }
+
+        @Override
+        public Object resolve(Parameter parameter, BenchCommandMethod method, CommandContext<BenchSource> context) throws ArnSyntaxException {
+            return resolve(parameter, getName(parameter), method, context);
+        }
+
+        @Override
+        public Object resolve(Parameter parameter, String name, BenchCommandMethod method, CommandContext<BenchSource> context) throws ArnSyntaxException {
+            String string = StringArgumentType.getString(context, name);
+            Enum<?> constant = lookup.find(string);
+            if (constant == null) throw UNKNOWN_CONSTANT.create(string);
+            return constant;
+        }
+
+    }
+
+    /**
+     * Creates {@link Enum} arguments annotated with {@link CustomArgument}.
+     */
+    public static final class CmdEnum implements BenchCommandMethod.CmdResolver {
+
+        private final Class<? extends Enum<?>> enumClass;
+        private final PrefixIndex constants;
+
+        /**
+         * Creates a new resolver.
+         *
+         * @param enumClass Enum this resolver creates arguments of.
+         */
+        public CmdEnum(Class<? extends Enum<?>> enumClass) {
+            this.enumClass = enumClass;
+            CustomArgument annotation = enumClass.getAnnotation(CustomArgument.class);
+            this.constants = PrefixIndex.ofEnum(enumClass, annotation == null ? 0 : annotation.suggestionLimit());
+        }
+
+        @Override
+        public boolean isApplicable(Parameter parameter) {
+            return parameter.getType().equals(enumClass) && parameter.isAnnotationPresent(CommandArgument.class);
+        }
+
+        @Override
+        public ArgumentBuilder<BenchSource, ?> apply(Parameter parameter) {
+            return RequiredArgumentBuilder.<BenchSource, String>argument(getName(parameter), StringArgumentType.word())
+                    .suggests((context, builder) -> constants.suggest(builder));
+        }
+
+    }
+
+    /**
+     * Resolves arguments of a {@link BenchCustomArgumentType}.
+     */
+    public static final class HndCustom implements BenchCommandMethod.HndResolver {
+
+        private final BenchCustomArgumentType<?> type;
+
+        /**
+         * Creates a new resolver.
+         *
+         * @param type Custom argument type this resolver resolves.
+         */
+        public HndCustom(BenchCustomArgumentType<?> type) {
+            this.type = type;
+        }
+
+        @Override
+        public boolean isApplicable(Parameter parameter) {
+            return parameter.isAnnotationPresent(CommandArgument.class) && parameter.getType().equals(type.getType());
+        }
+
+        @Override
+        public boolean requireCommandArgument() {
+            return true;
+        }
+
+        @Override
+        public Object resolve(Parameter parameter, BenchCommandMethod method, CommandContext<BenchSource> context) throws ArnSyntaxException {
+            return resolve(parameter, getName(parameter), method, context);
+        }
+
+        @Override
+        public Object resolve(Parameter parameter, String name, BenchCommandMethod method, CommandContext<BenchSource> context) throws ArnSyntaxException {
+            return type.parse(context.getSource(), StringArgumentType.getString(context, name));
+        }
+
+    }
+
+    /**
+     * Creates arguments of a {@link BenchCustomArgumentType}.
+     */
+    public static final class CmdCustom implements BenchCommandMethod.CmdResolver {
+
+        private final BenchCustomArgumentType<?> type;
+
+        /**
+         * Creates a new resolver.
+         *
+         * @param type Custom argument type this resolver creates arguments of.
+         */
+        public CmdCustom(BenchCustomArgumentType<?> type) {
+            this.type = type;
+        }
+
+        @Override
+        public boolean isApplicable(Parameter parameter) {
+            return parameter.isAnnotationPresent(CommandArgument.class) && parameter.getType().equals(type.getType());
+        }
+
+        @Override
+        public ArgumentBuilder<BenchSource, ?> apply(Parameter parameter) {
+            return RequiredArgumentBuilder.<BenchSource, String>argument(getName(parameter), StringArgumentType.word())
+                    .suggests((context, builder) -> {
+                        for (String suggestion : type.suggest(context.getSource(), builder.getRemainingLowerCase()))
+                            builder.suggest(suggestion);
+                        return builder.buildFuture();
+                    });
+        }
+
+    }
+
+}
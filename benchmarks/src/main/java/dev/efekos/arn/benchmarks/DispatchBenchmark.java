@@ -0,0 +1,152 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.arn.benchmarks;
+
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.ParseResults;
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the command dispatch path. Run with {@code -prof gc} to see allocation rates as well as throughput:
+ * <pre>{@code java -jar benchmarks/target/benchmarks.jar DispatchBenchmark -prof gc}</pre>
+ *
+ * @author efekos
+ * @since 0.4
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class DispatchBenchmark {
+
+    private static final String ADD = "bench add 12 30";
+
+    private final BenchSource source = new BenchSource("bench");
+    private CommandDispatcher<BenchSource> dispatcher;
+    private ParseResults<BenchSource> parsedAdd;
+    private BenchCommandMethod addMethod;
+    private CommandContext<BenchSource> addContext;
+    private Object container;
+    private Object[] addArguments;
+
+    @Setup
+    public void setup() throws Exception {
+        BenchArn arn = new BenchArn(BenchCommands.class);
+        dispatcher = arn.getDispatcher();
+        parsedAdd = dispatcher.parse(ADD, source);
+        addMethod = arn.getHandler("bench.add");
+        addContext = parsedAdd.getContext().build(ADD);
+        container = arn.getContainerProvider(BenchCommands.class).acquire(source);
+        addArguments = addMethod.getBindingPlan().bind(addMethod, addContext);
+    }
+
+    /**
+     * Parses and executes a command without arguments.
+     */
+    @Benchmark
+    public int dispatchNoArguments() throws CommandSyntaxException {
+        return dispatcher.execute("bench ping", source);
+    }
+
+    /**
+     * Parses and executes a command with a sender and two {@code int} arguments.
+     */
+    @Benchmark
+    public int dispatchIntArguments() throws CommandSyntaxException {
+        return dispatcher.execute(ADD, source);
+    }
+
+    /**
+     * Parses and executes a command with a sender and a {@link String} argument.
+     */
+    @Benchmark
+    public int dispatchWordArgument() throws CommandSyntaxException {
+        return dispatcher.execute("bench echo hello", source);
+    }
+
+    /**
+     * Executes an already parsed command, leaving out the cost of parsing.
+     */
+    @Benchmark
+    public int executeParsed() throws CommandSyntaxException {
+        return dispatcher.execute(parsedAdd);
+    }
+
+    /**
+     * Resolves arguments of a handler method from an already built context.
+     */
+    @Benchmark
+    public Object[] resolveArguments() throws Exception {
+        return addMethod.getBindingPlan().bind(addMethod, addContext);
+    }
+
+    /**
+     * Invokes a handler method with already resolved arguments.
+     */
+    @Benchmark
+    public Object invokeHandler() throws Throwable {
+        return addMethod.getInvoker().invoke(container, addArguments);
+    }
+
+    /**
+     * Executes a command whose handler method throws an exception that is dispatched to an exception handler method.
+     */
+    @Benchmark
+    public int exceptionHandler() throws CommandSyntaxException {
+        return dispatcher.execute("bench fail 1", source);
+    }
+
+    /**
+     * Executes a command whose argument is rejected by its resolver.
+     */
+    @Benchmark
+    public void resolverRejects(Blackhole blackhole) {
+        try {
+            blackhole.consume(dispatcher.execute("bench add -1 30", source));
+        } catch (CommandSyntaxException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    /**
+     * Executes a command that doesn't exist.
+     */
+    @Benchmark
+    public void unknownCommand(Blackhole blackhole) {
+        try {
+            blackhole.consume(dispatcher.execute("bench missing", source));
+        } catch (CommandSyntaxException e) {
+            blackhole.consume(e);
+        }
+    }
+
+}
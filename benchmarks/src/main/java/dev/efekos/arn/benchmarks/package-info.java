@@ -0,0 +1,6 @@
+/**
+ * JMH benchmarks of the command dispatch path. Commands are registered to a real Brigadier
+ * {@link com.mojang.brigadier.CommandDispatcher} with {@link dev.efekos.arn.benchmarks.BenchSource} standing in for
+ * the command source of a server.
+ */
+package dev.efekos.arn.benchmarks;
@@ -0,0 +1,85 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.arn.benchmarks.startup;
+
+import dev.efekos.arn.benchmarks.BenchArn;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks a cold start of {@link BenchArn} on a {@link SyntheticPlugin} of every size in {@link #commands}. Every
+ * measurement loads the plugin with a new class loader, so scanning never sees classes that were reflected on before.
+ * Use {@link StartupHarness} to see how long each phase takes.
+ *
+ * @author efekos
+ * @since 0.4
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class StartupBenchmark {
+
+    /**
+     * Amount of commands of the plugin.
+     */
+    @Param({"10", "100", "1000", "5000"})
+    public int commands;
+
+    /**
+     * Whether the plugin is compiled with {@code arn-processor}, so the classpath isn't scanned.
+     */
+    @Param({"false", "true"})
+    public boolean generatedIndex;
+
+    private Path directory;
+    private Path classes;
+
+    @Setup(Level.Trial)
+    public void compile() throws IOException {
+        directory = Files.createTempDirectory("arn-startup-");
+        classes = SyntheticPlugin.of(commands).compile(directory, generatedIndex);
+    }
+
+    @TearDown(Level.Trial)
+    public void delete() throws IOException {
+        SyntheticPlugin.delete(directory);
+    }
+
+    /**
+     * Scans, validates and registers every command of the plugin.
+     */
+    @Benchmark
+    public BenchArn start() throws IOException {
+        return StartupHarness.start(classes);
+    }
+
+}
@@ -0,0 +1,180 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.arn.benchmarks.startup;
+
+import dev.efekos.arn.benchmarks.BenchArn;
+import dev.efekos.arn.benchmarks.StartupPhase;
+import dev.efekos.arn.common.diagnostics.ArnDiagnostics;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measures how the startup phases of {@link BenchArn} scale with the size of a plugin. For every plugin size, a
+ * {@link SyntheticPlugin} is compiled, then loaded and started {@code --rounds} times with a new class loader each
+ * time. Time and allocated bytes of the first round and the median of the other rounds are printed for every phase,
+ * along with the heap retained by the started instance. Usage:
+ * <pre>{@code
+ * java -cp benchmarks/target/benchmarks.jar dev.efekos.arn.benchmarks.startup.StartupHarness \
+ *     --commands 10,100,1000,5000 --parameters 3 --enums 4 --custom 4 --handlers 8 --per-container 25 \
+ *     --rounds 5 --index reflections
+ * }</pre>
+ * {@code --index} is one of {@code reflections}, {@code generated} or {@code both}.
+ *
+ * @author efekos
+ * @since 0.4
+ */
+public final class StartupHarness {
+
+    private StartupHarness() {
+    }
+
+    /**
+     * Runs the harness.
+     *
+     * @param args Command line arguments.
+     * @throws IOException If a synthetic plugin can't be compiled.
+     */
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = parse(args);
+        int[] sizes = Arrays.stream(options.getOrDefault("commands", "10,100,1000,5000").split(","))
+                .mapToInt(s -> Integer.parseInt(s.trim())).toArray();
+        int parameters = Integer.parseInt(options.getOrDefault("parameters", "3"));
+        int enums = Integer.parseInt(options.getOrDefault("enums", "4"));
+        int custom = Integer.parseInt(options.getOrDefault("custom", "4"));
+        int handlers = Integer.parseInt(options.getOrDefault("handlers", "8"));
+        int perContainer = Integer.parseInt(options.getOrDefault("per-container", "25"));
+        int rounds = Math.max(1, Integer.parseInt(options.getOrDefault("rounds", "5")));
+        String index = options.getOrDefault("index", "reflections");
+
+        List<Boolean> indexModes = switch (index) {
+            case "reflections" -> List.of(false);
+            case "generated" -> List.of(true);
+            case "both" -> List.of(false, true);
+            default -> throw new IllegalArgumentException("Unknown index mode: " + index);
+        };
+
+        for (int size : sizes) {
+            SyntheticPlugin plugin = new SyntheticPlugin(size, parameters, enums, custom, handlers, perContainer);
+            for (boolean generated : indexModes) {
+                Path directory = Files.createTempDirectory("arn-startup-");
+                try {
+                    Path classes = plugin.compile(directory, generated);
+                    report(plugin, generated, measure(classes, rounds));
+                } finally {
+                    SyntheticPlugin.delete(directory);
+                }
+            }
+        }
+    }
+
+    /**
+     * Loads the plugin in {@code classes} and runs a new {@link BenchArn} on it. The context class loader is set to
+     * the loader of the plugin while running, so the classpath scanner can find its classes.
+     *
+     * @param classes Directory returned from {@link SyntheticPlugin#compile(Path, boolean)}.
+     * @return The started instance.
+     * @throws IOException If the plugin can't be loaded.
+     */
+    public static BenchArn start(Path classes) throws IOException {
+        Class<?> mainClass = SyntheticPlugin.load(classes);
+        Thread thread = Thread.currentThread();
+        ClassLoader previous = thread.getContextClassLoader();
+        thread.setContextClassLoader(mainClass.getClassLoader());
+        try {
+            BenchArn arn = new BenchArn();
+            arn.run(mainClass);
+            return arn;
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+    }
+
+    private static Result measure(Path classes, int rounds) throws IOException {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        List<List<StartupPhase>> runs = new ArrayList<>();
+        long retained = 0;
+        for (int i = 0; i < rounds; i++) {
+            collectGarbage();
+            long before = memory.getHeapMemoryUsage().getUsed();
+            BenchArn arn = start(classes);
+            collectGarbage();
+            if (i == 0) retained = memory.getHeapMemoryUsage().getUsed() - before;
+            runs.add(arn.getStartupPhases());
+        }
+        return new Result(runs, retained);
+    }
+
+    private static void collectGarbage() {
+        for (int i = 0; i < 3; i++) System.gc();
+    }
+
+    private static void report(SyntheticPlugin plugin, boolean generated, Result result) {
+        System.out.printf("%n%,d commands, %d parameters, %d enums, %d custom arguments, %d exception handlers, %d containers (%s index)%n",
+                plugin.commands(), plugin.parameters(), plugin.enumArguments(), plugin.customArguments(),
+                plugin.exceptionHandlers(), plugin.containers(), generated ? "generated" : "reflections");
+        System.out.printf("%-28s %12s %12s %12s %12s%n", "phase", "first", "median", "first alloc", "median alloc");
+
+        List<StartupPhase> first = result.runs().get(0);
+        long firstTotal = 0, medianTotal = 0;
+        for (int p = 0; p < first.size(); p++) {
+            int phase = p;
+            long[] nanos = result.runs().stream().skip(1).mapToLong(run -> run.get(phase).nanos()).sorted().toArray();
+            long[] bytes = result.runs().stream().skip(1).mapToLong(run -> run.get(phase).allocatedBytes()).sorted().toArray();
+            StartupPhase firstPhase = first.get(p);
+            long medianNanos = nanos.length == 0 ? firstPhase.nanos() : nanos[nanos.length / 2];
+            long medianBytes = bytes.length == 0 ? firstPhase.allocatedBytes() : bytes[bytes.length / 2];
+            firstTotal += firstPhase.nanos();
+            medianTotal += medianNanos;
+            System.out.printf("%-28s %12s %12s %12s %12s%n", firstPhase.name(), ArnDiagnostics.formatNanos(firstPhase.nanos()),
+                    ArnDiagnostics.formatNanos(medianNanos), ArnDiagnostics.formatBytes(firstPhase.allocatedBytes()),
+                    ArnDiagnostics.formatBytes(medianBytes));
+        }
+        System.out.printf("%-28s %12s %12s%n", "total", ArnDiagnostics.formatNanos(firstTotal), ArnDiagnostics.formatNanos(medianTotal));
+        System.out.printf("%-28s %12s%n", "retained heap", ArnDiagnostics.formatBytes(result.retained()));
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--") || i + 1 == args.length)
+                throw new IllegalArgumentException("Expected '--option value', found " + args[i]);
+            options.put(args[i].substring(2), args[++i]);
+        }
+        return options;
+    }
+
+    private record Result(List<List<StartupPhase>> runs, long retained) {
+    }
+
+}
@@ -0,0 +1,285 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.arn.benchmarks.startup;
+
+import dev.efekos.arn.benchmarks.BenchCustomArgumentType;
+import dev.efekos.arn.benchmarks.BenchSource;
+import dev.efekos.arn.common.annotation.Command;
+import dev.efekos.arn.common.annotation.CommandArgument;
+import dev.efekos.arn.common.annotation.Container;
+import dev.efekos.arn.common.annotation.CustomArgument;
+import dev.efekos.arn.common.annotation.ExceptionHandler;
+import dev.efekos.arn.common.annotation.Helper;
+
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * Generates the source of a plugin with the given amount of {@link Container}s, compiles it and loads it. Commands are
+ * spread over containers of {@link #commandsPerContainer()} commands, each annotated with {@link Helper}, and every
+ * exception handler handles its own exception type so none of them are skipped by the registry.
+ *
+ * @param commands             Amount of command handler methods.
+ * @param parameters           Amount of {@link CommandArgument} parameters of every command.
+ * @param enumArguments        Amount of enums annotated with {@link CustomArgument}.
+ * @param customArguments      Amount of {@link BenchCustomArgumentType}s.
+ * @param exceptionHandlers    Amount of exception handler methods.
+ * @param commandsPerContainer Amount of commands in one container.
+ * @author efekos
+ * @since 0.4
+ */
+public record SyntheticPlugin(int commands, int parameters, int enumArguments, int customArguments, int exceptionHandlers,
+                              int commandsPerContainer) {
+
+    /**
+     * Package of every generated class.
+     */
+    public static final String PACKAGE = "dev.efekos.arn.synthetic";
+
+    /**
+     * Simple name of the generated main class.
+     */
+    public static final String MAIN_CLASS = "SyntheticMain";
+
+    /**
+     * Amount of constants of every generated enum.
+     */
+    private static final int ENUM_CONSTANTS = 16;
+
+    /**
+     * Creates a new plugin.
+     *
+     * @throws IllegalArgumentException If a count is negative, or {@code commandsPerContainer} isn't positive.
+     */
+    public SyntheticPlugin {
+        if (commands < 0 || parameters < 0 || enumArguments < 0 || customArguments < 0 || exceptionHandlers < 0)
+            throw new IllegalArgumentException("Counts can't be negative");
+        if (commandsPerContainer <= 0)
+            throw new IllegalArgumentException("commandsPerContainer must be positive");
+    }
+
+    /**
+     * Creates a plugin with the given amount of commands, and 3 parameters per command, 4 enum arguments, 4 custom
+     * arguments, 8 exception handlers and 25 commands per container.
+     *
+     * @param commands Amount of command handler methods.
+     * @return A new plugin.
+     */
+    public static SyntheticPlugin of(int commands) {
+        return new SyntheticPlugin(commands, 3, 4, 4, 8, 25);
+    }
+
+    /**
+     * Returns the amount of command containers this plugin has.
+     *
+     * @return Amount of command containers.
+     */
+    public int containers() {
+        return Math.max(1, (commands + commandsPerContainer - 1) / commandsPerContainer);
+    }
+
+    /**
+     * Writes source of every class of this plugin to {@code directory}.
+     *
+     * @param directory Source root to write to.
+     * @return Every file that was written.
+     * @throws IOException If a file can't be written.
+     */
+    public List<Path> writeSources(Path directory) throws IOException {
+        Path packageDirectory = directory.resolve(PACKAGE.replace('.', File.separatorChar));
+        Files.createDirectories(packageDirectory);
+        List<Path> files = new ArrayList<>();
+
+        files.add(write(packageDirectory, MAIN_CLASS, "public final class " + MAIN_CLASS + " {\n}\n"));
+        for (int e = 0; e < enumArguments; e++) files.add(write(packageDirectory, "Choice" + e, enumSource(e)));
+        for (int c = 0; c < customArguments; c++) {
+            files.add(write(packageDirectory, "Value" + c, "public record Value" + c + "(String value) {\n}\n"));
+            files.add(write(packageDirectory, "Value" + c + "Type", customArgumentSource(c)));
+        }
+        for (int h = 0; h < exceptionHandlers; h++)
+            files.add(write(packageDirectory, "Failure" + h, "public class Failure" + h + " extends RuntimeException {\n}\n"));
+        for (int k = 0; k < containers(); k++) files.add(write(packageDirectory, "Commands" + k, containerSource(k)));
+        return files;
+    }
+
+    /**
+     * Writes and compiles this plugin into {@code directory}. Sources are written to {@code directory/src}, and
+     * classes to {@code directory/classes}.
+     *
+     * @param directory     Directory to write the plugin to.
+     * @param generateIndex Whether {@code arn-processor} should run and generate an index of the plugin.
+     * @return Directory of the compiled classes.
+     * @throws IOException If a file can't be written.
+     */
+    public Path compile(Path directory, boolean generateIndex) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null)
+            throw new IllegalStateException("Synthetic plugins can only be compiled on a JDK");
+
+        List<Path> sources = writeSources(directory.resolve("src"));
+        Path classes = Files.createDirectories(directory.resolve("classes"));
+
+        List<String> options = new ArrayList<>(List.of("-d", classes.toString(), "-classpath",
+                System.getProperty("java.class.path"), "-encoding", "UTF-8"));
+        if (generateIndex) {
+            options.add("-processor");
+            options.add("dev.efekos.arn.processor.ArnProcessor");
+            options.add("-Aarn.package=" + PACKAGE);
+        } else options.add("-proc:none");
+
+        StringWriter output = new StringWriter();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+            boolean success = compiler.getTask(output, fileManager, null, options, null,
+                    fileManager.getJavaFileObjectsFromPaths(sources)).call();
+            if (!success)
+                throw new IllegalStateException("Could not compile synthetic plugin:\n" + output);
+        }
+        return classes;
+    }
+
+    /**
+     * Loads the main class of a compiled plugin with a new class loader, so every load returns classes that weren't
+     * reflected on before.
+     *
+     * @param classes Directory returned from {@link #compile(Path, boolean)}.
+     * @return The main class of the plugin.
+     * @throws IOException If the main class can't be loaded.
+     */
+    public static Class<?> load(Path classes) throws IOException {
+        URLClassLoader loader = new URLClassLoader(new URL[]{classes.toUri().toURL()}, SyntheticPlugin.class.getClassLoader());
+        try {
+            return Class.forName(PACKAGE + "." + MAIN_CLASS, true, loader);
+        } catch (ClassNotFoundException e) {
+            throw new IOException("Could not find the main class in " + classes, e);
+        }
+    }
+
+    /**
+     * Deletes a directory a plugin was compiled into.
+     *
+     * @param directory Directory passed to {@link #compile(Path, boolean)}.
+     * @throws IOException If a file can't be deleted.
+     */
+    public static void delete(Path directory) throws IOException {
+        if (!Files.exists(directory)) return;
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted((a, b) -> b.getNameCount() - a.getNameCount()).toList())
+                Files.delete(file);
+        }
+    }
+
+    private static Path write(Path directory, String className, String body) throws IOException {
+        Path file = directory.resolve(className + ".java");
+        Files.writeString(file, "package " + PACKAGE + ";\n\n" + body);
+        return file;
+    }
+
+    private String enumSource(int index) {
+        StringBuilder builder = new StringBuilder()
+                .append('@').append(Container.class.getName()).append('\n')
+                .append('@').append(CustomArgument.class.getName()).append("(\"synthetic:choice").append(index).append("\")\n")
+                .append("public enum Choice").append(index).append(" {\n    ");
+        for (int i = 0; i < ENUM_CONSTANTS; i++) {
+            if (i != 0) builder.append(", ");
+            builder.append("CONSTANT_").append(letters(i).toUpperCase(Locale.ENGLISH));
+        }
+        return builder.append("\n}\n").toString();
+    }
+
+    private String customArgumentSource(int index) {
+        String value = "Value" + index;
+        return "@" + Container.class.getName() + "\n"
+                + "public class " + value + "Type implements " + BenchCustomArgumentType.class.getName() + "<" + value + "> {\n\n"
+                + "    private static final java.util.List<String> SUGGESTIONS = java.util.List.of(\"first\", \"second\", \"third\");\n\n"
+                + "    @Override\n"
+                + "    public Class<" + value + "> getType() {\n"
+                + "        return " + value + ".class;\n"
+                + "    }\n\n"
+                + "    @Override\n"
+                + "    public java.util.List<String> suggest(" + BenchSource.class.getName() + " sender) {\n"
+                + "        return SUGGESTIONS;\n"
+                + "    }\n\n"
+                + "    @Override\n"
+                + "    public " + value + " parse(" + BenchSource.class.getName() + " sender, String arg) {\n"
+                + "        return new " + value + "(arg);\n"
+                + "    }\n\n"
+                + "}\n";
+    }
+
+    private String containerSource(int index) {
+        String group = "group" + letters(index);
+        StringBuilder builder = new StringBuilder()
+                .append('@').append(Container.class.getName()).append('\n')
+                .append('@').append(Helper.class.getName()).append("(\"").append(group).append(".help\")\n")
+                .append("public class Commands").append(index).append(" {\n");
+
+        List<String> types = new ArrayList<>(List.of("int", "String"));
+        for (int e = 0; e < enumArguments; e++) types.add("Choice" + e);
+        for (int c = 0; c < customArguments; c++) types.add("Value" + c);
+
+        int end = Math.min(commands, (index + 1) * commandsPerContainer);
+        for (int i = index * commandsPerContainer; i < end; i++) {
+            builder.append("\n    @").append(Command.class.getName()).append("(\"").append(group).append(".command")
+                    .append(letters(i)).append("\")\n")
+                    .append("    public int command").append(i).append('(').append(BenchSource.class.getName()).append(" source");
+            for (int p = 0; p < parameters; p++)
+                builder.append(", @").append(CommandArgument.class.getName()).append("(\"a").append(p).append("\") ")
+                        .append(types.get((i + p) % types.size())).append(" a").append(p);
+            builder.append(") {\n        return 1;\n    }\n");
+        }
+
+        for (int h = index; h < exceptionHandlers; h += containers())
+            builder.append("\n    @").append(ExceptionHandler.class.getName()).append("(Failure").append(h).append(".class)\n")
+                    .append("    public void handle").append(h).append("(Failure").append(h).append(" exception, ")
+                    .append(BenchSource.class.getName()).append(" source) {\n    }\n");
+
+        return builder.append("\n}\n").toString();
+    }
+
+    /**
+     * Returns a lower-case name for the given number, since literals can only have letters.
+     */
+    private static String letters(int number) {
+        StringBuilder builder = new StringBuilder();
+        do {
+            builder.append((char) ('a' + number % 26));
+            number = number / 26 - 1;
+        } while (number >= 0);
+        return builder.reverse().toString();
+    }
+
+}
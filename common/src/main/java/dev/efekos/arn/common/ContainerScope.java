@@ -0,0 +1,62 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.arn.common;
+
+import dev.efekos.arn.common.annotation.Container;
+
+/**
+ * Determines how instances of a {@link Container} are created and reused while executing commands and exception
+ * handlers declared in it.
+ *
+ * @author efekos
+ * @since 0.4
+ */
+public enum ContainerScope {
+
+    /**
+     * Only one instance of the container is created while scanning, and every execution uses that instance.
+     */
+    SINGLETON,
+
+    /**
+     * A new instance of the container is created every time a command or an exception handler declared in it is
+     * executed.
+     */
+    PER_INVOCATION,
+
+    /**
+     * An instance of the container is created for every command sender, and reused every time the same sender
+     * executes a command declared in it. Instances are released once their sender is garbage collected.
+     */
+    PER_SENDER,
+
+    /**
+     * Instances of the container are borrowed from a pool and put back after the execution is done, so no two
+     * executions use the same instance at the same time. Maximum size of the pool is determined by
+     * {@link Container#poolSize()}.
+     */
+    POOLED
+
+}
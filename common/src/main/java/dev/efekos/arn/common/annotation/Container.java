@@ -25,6 +25,8 @@
 package dev.efekos.arn.common.annotation;
 
 
+import dev.efekos.arn.common.ContainerScope;
+
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
@@ -40,4 +42,23 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.TYPE)
 public @interface Container {
+
+    /**
+     * Scope of the instances of this container, determining when a new instance should be created while executing
+     * commands and exception handlers declared in this container.
+     *
+     * @return Scope of this container.
+     * @since 0.4
+     */
+    ContainerScope scope() default ContainerScope.SINGLETON;
+
+    /**
+     * Maximum amount of idle instances kept when {@link #scope()} is {@link ContainerScope#POOLED}. Ignored for other
+     * scopes.
+     *
+     * @return Maximum size of the instance pool.
+     * @since 0.4
+     */
+    int poolSize() default 16;
+
 }
@@ -43,4 +43,13 @@ public @interface CustomArgument {
      */
     String value();
 
+    /**
+     * Returns the maximum amount of suggestions sent to a client for this argument. Keeps the suggestion packets small
+     * for enums with a lot of constants.
+     *
+     * @return Maximum amount of suggestions, or {@code 0} for no limit.
+     * @since 0.4
+     */
+    int suggestionLimit() default 0;
+
 }
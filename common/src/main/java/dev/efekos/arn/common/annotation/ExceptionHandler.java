@@ -39,4 +39,14 @@ import java.lang.annotation.Target;
 @Target(ElementType.METHOD)
 public @interface ExceptionHandler {
     Class<? extends Exception> value();
+
+    /**
+     * Returns whether this exception handler only handles exceptions thrown from the commands of its own container.
+     * The exception handler whose exception class is the closest superclass of the thrown exception is picked either
+     * way, a scoped one is only preferred over another one that is just as close.
+     *
+     * @return Whether this exception handler is scoped to its container.
+     * @since 0.4
+     */
+    boolean scoped() default false;
 }
@@ -27,8 +27,11 @@ package dev.efekos.arn.common.base;
 import dev.efekos.arn.common.Arn;
 import dev.efekos.arn.common.ArnFeature;
 import dev.efekos.arn.common.exception.ArnException;
+import dev.efekos.arn.common.metrics.ArnMetrics;
+import dev.efekos.arn.common.metrics.SlowCommandWatchdog;
 
 import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
  * Represents an instance off Arn that can be used to run Arn on the project. {@link Arn#getInstance()} should be used.
@@ -60,6 +63,59 @@ public interface ArnInstance {
      */
     List<ArnFeature> getSupportedFeatures();
 
+    /**
+     * Changes the executor that handler methods annotated with {@link dev.efekos.arn.common.annotation.Async} run on.
+     * Uses a new virtual thread for every command by default.
+     * @param executor New executor.
+     * @return Same instance of Arn.
+     * @since 0.4
+     */
+    ArnInstance setAsyncExecutor(Executor executor);
+
+    /**
+     * Returns the executor that handler methods annotated with {@link dev.efekos.arn.common.annotation.Async} run on.
+     * @return Current executor.
+     * @since 0.4
+     */
+    Executor getAsyncExecutor();
+
+    /**
+     * Returns metrics of every command registered by this instance, such as how many times they were executed and how
+     * long they took.
+     * @return Metrics of this instance.
+     * @since 0.4
+     */
+    ArnMetrics getMetrics();
+
+    /**
+     * Returns the watchdog that reports handler methods running longer than a budget on the server thread. The
+     * watchdog is disabled until a budget is set using {@link SlowCommandWatchdog#setBudget(java.time.Duration)}.
+     * @return Watchdog of this instance.
+     * @since 0.4
+     */
+    SlowCommandWatchdog getWatchdog();
+
+    /**
+     * Makes this instance register a diagnostics command that lists registered handlers, containers, resolvers,
+     * metrics and startup phase timings. Must be called before {@link #run(Class, Object)}.
+     * @param literal    Name of the command, such as {@code arn}.
+     * @param permission Permission required to use the command.
+     * @return Same instance of Arn.
+     * @since 0.4
+     */
+    ArnInstance enableDiagnostics(String literal, String permission);
+
+    /**
+     * Makes this instance register a diagnostics command named {@code arn}, that requires the {@code arn.diagnostics}
+     * permission.
+     * @return Same instance of Arn.
+     * @see #enableDiagnostics(String, String)
+     * @since 0.4
+     */
+    default ArnInstance enableDiagnostics() {
+        return enableDiagnostics("arn", "arn.diagnostics");
+    }
+
     /**
      * Checks if feature list of this {@link ArnInstance} contains the given {@link ArnFeature}. If
      * {@link ArnFeature#ALL} is in the feature list, this method will always return {@code true}.
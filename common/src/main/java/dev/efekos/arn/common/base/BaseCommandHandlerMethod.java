@@ -26,6 +26,7 @@ package dev.efekos.arn.common.base;
 
 import dev.efekos.arn.common.CommandAnnotationData;
 import dev.efekos.arn.common.annotation.Command;
+import dev.efekos.arn.common.invoke.MethodInvoker;
 
 import javax.annotation.Nullable;
 import java.lang.reflect.Method;
@@ -55,6 +56,7 @@ public abstract class BaseCommandHandlerMethod<Cmd extends BaseCmdResolver<?>, H
     private boolean blocksCommandBlock;
     private boolean blocksPlayer;
     private Class<?> includedSender;
+    private MethodInvoker invoker;
 
     @Override
     public String toString() {
@@ -304,4 +306,21 @@ public abstract class BaseCommandHandlerMethod<Cmd extends BaseCmdResolver<?>, H
         this.includedSender = includedSender;
     }
 
+    /**
+     * Returns the compiled invoker of this command's base method. Arn uses this invoker instead of
+     * {@link Method#invoke(Object, Object...)} while executing the command.
+     * @return Compiled invoker of {@link #getMethod()}.
+     */
+    public MethodInvoker getInvoker() {
+        return invoker;
+    }
+
+    /**
+     * Changes the compiled invoker of this command's base method.
+     * @param invoker New value.
+     */
+    public void setInvoker(MethodInvoker invoker) {
+        this.invoker = invoker;
+    }
+
 }
\ No newline at end of file
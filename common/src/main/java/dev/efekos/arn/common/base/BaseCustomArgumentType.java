@@ -25,8 +25,10 @@
 package dev.efekos.arn.common.base;
 
 import dev.efekos.arn.common.exception.ArnSyntaxException;
+import dev.efekos.arn.common.resolver.SuggestionCache;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * An interface used to create custom argument types. When scanned by Arn, {@link Type} becomes a usable argument type
@@ -61,7 +63,60 @@ public interface BaseCustomArgumentType<Type, Registration, Sender> {
     List<String> suggest(Sender sender);
 
     /**
-     * Parses the given argument.
+     * Suggests a list of strings to the given command sender, knowing what the sender has typed so far. Suggestions
+     * that don't start with {@code remaining} are filtered out by Arn, so implementations only need to override this
+     * method when narrowing down the suggestions early is cheaper. Returns {@link #suggest(Object)} by default.
+     *
+     * @param sender    Any command sender.
+     * @param remaining Lower-case input the sender has typed so far.
+     * @return A list of suggestions.
+     * @since 0.4
+     */
+    default List<String> suggest(Sender sender, String remaining) {
+        return suggest(sender);
+    }
+
+    /**
+     * Suggests a list of strings to the given command sender asynchronously. This method is called on the server
+     * thread, so implementations that query slow stores should override it and complete the future from another
+     * thread. Returns a completed future of {@link #suggest(Object, String)} by default.
+     *
+     * @param sender    Any command sender.
+     * @param remaining Lower-case input the sender has typed so far. Always empty if this type has a
+     *                  {@link #getSuggestionCache()}.
+     * @return A future of the suggestions.
+     * @since 0.4
+     */
+    default CompletableFuture<List<String>> suggestAsync(Sender sender, String remaining) {
+        return CompletableFuture.completedFuture(suggest(sender, remaining));
+    }
+
+    /**
+     * Returns the cache suggestions of this type are stored in. Implementations that want their suggestions cached
+     * should create a {@link SuggestionCache} once, return it from this method, and call
+     * {@link SuggestionCache#invalidate(Object)} when suggestions of a sender change. Returns {@code null} by default,
+     * meaning suggestions are not cached.
+     *
+     * @return A suggestion cache, or {@code null}.
+     * @since 0.4
+     */
+    default SuggestionCache<Sender> getSuggestionCache() {
+        return null;
+    }
+
+    /**
+     * Parses the given argument. Invalid arguments should be reported by throwing an {@link ArnSyntaxException}, which
+     * is shown to the sender. Syntax exceptions don't have a stack trace, and errors with a fixed message can reuse
+     * one instance using {@link dev.efekos.arn.common.exception.SimpleArnExceptionType#syntax(String)}:
+     * <pre>{@code
+     * private static final SimpleArnExceptionType<ArnSyntaxException> UNKNOWN_KIT = SimpleArnExceptionType.syntax("Unknown kit");
+     *
+     * public Kit parse(CommandSender sender, String arg) throws ArnSyntaxException {
+     *     Kit kit = kits.get(arg);
+     *     if (kit == null) throw UNKNOWN_KIT.create();
+     *     return kit;
+     * }
+     * }</pre>
      *
      * @param sender Sender who sent this argument.
      * @param arg    The argument value.
@@ -24,7 +24,10 @@
 
 package dev.efekos.arn.common.base;
 
+import dev.efekos.arn.common.invoke.MethodInvoker;
+
 import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -37,6 +40,10 @@ public abstract class BaseExceptionHandlerMethod<Context> {
 
     protected Method method;
     protected Class<? extends Exception> exceptionClass;
+    protected boolean scoped;
+    protected MethodInvoker invoker;
+    private Class<?>[] parameterTypes;
+    private Binding[] bindings;
 
     /**
      * Creates a new method.
@@ -46,6 +53,7 @@ public abstract class BaseExceptionHandlerMethod<Context> {
     public BaseExceptionHandlerMethod(Method method, Class<? extends Exception> exceptionClass) {
         this.method = method;
         this.exceptionClass = exceptionClass;
+        bind();
     }
 
     /**
@@ -62,6 +70,7 @@ public abstract class BaseExceptionHandlerMethod<Context> {
      */
     public void setMethod(Method method) {
         this.method = method;
+        bind();
     }
 
     /**
@@ -78,15 +87,114 @@ public abstract class BaseExceptionHandlerMethod<Context> {
      */
     public void setExceptionClass(Class<? extends Exception> exceptionClass) {
         this.exceptionClass = exceptionClass;
+        bind();
+    }
+
+    /**
+     * Returns whether this exception handler only handles exceptions thrown from the commands of its own container.
+     * @return Whether this exception handler is scoped to its container.
+     * @since 0.4
+     */
+    public boolean isScoped() {
+        return scoped;
+    }
+
+    /**
+     * Changes whether this exception handler only handles exceptions thrown from the commands of its own container.
+     * @param scoped New value.
+     * @since 0.4
+     */
+    public void setScoped(boolean scoped) {
+        this.scoped = scoped;
+    }
+
+    /**
+     * Returns the compiled invoker of the base method. Arn uses this invoker instead of
+     * {@link Method#invoke(Object, Object...)} while handling an exception.
+     * @return Compiled invoker of {@link #getMethod()}.
+     * @since 0.4
+     */
+    public MethodInvoker getInvoker() {
+        return invoker;
+    }
+
+    /**
+     * Changes the compiled invoker of the base method.
+     * @param invoker New value.
+     * @since 0.4
+     */
+    public void setInvoker(MethodInvoker invoker) {
+        this.invoker = invoker;
     }
 
     /**
      * Returns a list of objects to pass in as parameter to the base method while executing it.
      * @param ex Exception that was thrown.
-     * @param commandContext Context about the command that subtypes of {@link BaseExceptionHandlerMethod} must use to
-     *                       provide as many arguments as possible to the base method.
+     * @param commandContext Context about the command.
      * @return A list of objects to pass in to the base method to invoke it.
+     * @deprecated Use {@link #fillArguments(Throwable, Object)}, which doesn't wrap the arguments in a list.
      */
-    public abstract List<Object> fillParams(Throwable ex, Context commandContext);
+    @Deprecated(since = "0.4")
+    public List<Object> fillParams(Throwable ex, Context commandContext) {
+        return Arrays.asList(fillArguments(ex, commandContext));
+    }
+
+    /**
+     * Returns an array of objects to pass in as parameter to the base method while executing it. What each parameter
+     * receives is decided once, when the base method or the exception class changes.
+     * @param ex Exception that was thrown.
+     * @param commandContext Context about the command.
+     * @return An array of objects to pass in to the base method to invoke it.
+     * @since 0.4
+     */
+    public Object[] fillArguments(Throwable ex, Context commandContext) {
+        Object[] objects = new Object[bindings.length];
+        Object sender = null;
+        for (int i = 0; i < objects.length; i++) {
+            objects[i] = switch (bindings[i]) {
+                case SENDER -> {
+                    if (sender == null) sender = getSender(commandContext);
+                    yield parameterTypes[i].isInstance(sender) ? sender : null;
+                }
+                case EXCEPTION -> ex;
+                case NONE -> null;
+            };
+        }
+        return objects;
+    }
+
+    /**
+     * Checks whether a parameter of the base method receives the command sender. Senders that aren't an instance of
+     * the parameter type are passed as {@code null}. Called from the constructor, so implementations must not depend
+     * on the state of the instance.
+     * @param type Type of a parameter.
+     * @return Whether the parameter is a sender parameter.
+     * @since 0.4
+     */
+    protected abstract boolean isSenderParameter(Class<?> type);
+
+    /**
+     * Returns the sender of the command.
+     * @param commandContext Context about the command.
+     * @return The sender.
+     * @since 0.4
+     */
+    protected abstract Object getSender(Context commandContext);
+
+    private void bind() {
+        Class<?>[] types = method.getParameterTypes();
+        Binding[] bindings = new Binding[types.length];
+        for (int i = 0; i < types.length; i++) {
+            if (isSenderParameter(types[i])) bindings[i] = Binding.SENDER;
+            else if (types[i].isAssignableFrom(exceptionClass)) bindings[i] = Binding.EXCEPTION;
+            else bindings[i] = Binding.NONE;
+        }
+        this.parameterTypes = types;
+        this.bindings = bindings;
+    }
+
+    private enum Binding {
+        SENDER, EXCEPTION, NONE
+    }
 
 }
\ No newline at end of file
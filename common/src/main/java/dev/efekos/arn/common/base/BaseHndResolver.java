@@ -69,6 +69,25 @@ public interface BaseHndResolver<Ctx, Method extends BaseCommandHandlerMethod<?,
      */
     Object resolve(Parameter parameter, Method method, Ctx context) throws ArnSyntaxException;
 
+    /**
+     * Resolves value of an argument into an {@link Object} using an argument name that was already resolved while
+     * registering the command. Arn calls this method instead of {@link #resolve(Parameter, BaseCommandHandlerMethod, Object)}
+     * while executing commands, so resolvers that need the name of their argument can override this method to avoid
+     * reading {@link CommandArgument} on every execution.
+     *
+     * @param parameter The {@link Parameter} that was associated with this resolver in the first place.
+     * @param name      Name of the argument returned from {@link #getName(Parameter)}, or {@code null} if
+     *                  {@code parameter} isn't annotated with {@link CommandArgument}.
+     * @param method    Main {@link BaseCommandHandlerMethod} in case something from there is needed.
+     * @param context   Command context to get arguments from the executed command.
+     * @return An object to be passed in to {@code parameter}.
+     * @throws ArnSyntaxException if needed.
+     * @since 0.4
+     */
+    default Object resolve(Parameter parameter, String name, Method method, Ctx context) throws ArnSyntaxException {
+        return resolve(parameter, method, context);
+    }
+
 
     default String getName(Parameter parameter) {
         String s = parameter.getAnnotation(CommandArgument.class).value();
@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.arn.common.container;
+
+import dev.efekos.arn.common.ContainerScope;
+import dev.efekos.arn.common.annotation.Container;
+
+import java.lang.reflect.Constructor;
+
+/**
+ * Provides instances of a {@link Container} depending on its {@link ContainerScope}. Providers are created once while
+ * scanning, so executing a command doesn't need to look up a constructor or create a new instance unless the scope of
+ * the container requires it.
+ *
+ * @author efekos
+ * @since 0.4
+ */
+public interface ContainerProvider {
+
+    /**
+     * Creates a provider that always returns the given instance, regardless of the scope of its container.
+     *
+     * @param instance The instance, or {@code null} if the container has no instance.
+     * @return A new {@link ContainerScope#SINGLETON} provider.
+     */
+    static ContainerProvider singleton(Object instance) {
+        return new SingletonContainerProvider(instance);
+    }
+
+    /**
+     * Creates a provider for the given container class, using the scope declared with {@link Container#scope()}.
+     * Classes that aren't annotated with {@link Container} are treated as {@link ContainerScope#SINGLETON}.
+     *
+     * @param clazz           Container class.
+     * @param initialInstance An instance of {@code clazz} created while scanning. Singleton and pooled providers reuse
+     *                        this instance.
+     * @return A new provider for {@code clazz}.
+     * @throws ReflectiveOperationException If the empty constructor of {@code clazz} can't be accessed.
+     */
+    static ContainerProvider of(Class<?> clazz, Object initialInstance) throws ReflectiveOperationException {
+        Container container = clazz.getAnnotation(Container.class);
+        ContainerScope scope = container == null ? ContainerScope.SINGLETON : container.scope();
+        if (scope == ContainerScope.SINGLETON) return new SingletonContainerProvider(initialInstance);
+
+        Constructor<?> constructor = clazz.getConstructor();
+        constructor.setAccessible(true);
+        return switch (scope) {
+            case PER_INVOCATION -> new PerInvocationContainerProvider(constructor);
+            case PER_SENDER -> new PerSenderContainerProvider(constructor);
+            case POOLED -> new PooledContainerProvider(constructor, container.poolSize(), initialInstance);
+            default -> new SingletonContainerProvider(initialInstance);
+        };
+    }
+
+    /**
+     * Returns the scope of the instances this provider provides.
+     *
+     * @return Scope of the container.
+     */
+    ContainerScope getScope();
+
+    /**
+     * Returns an instance of the container to execute something with. {@link #release(Object)} must be called with the
+     * returned instance once the execution is done.
+     *
+     * @param sender Sender that executes the command, or {@code null} if there isn't one.
+     * @return An instance of the container.
+     */
+    Object acquire(Object sender);
+
+    /**
+     * Gives an instance returned from {@link #acquire(Object)} back to this provider.
+     *
+     * @param instance An instance of the container.
+     */
+    default void release(Object instance) {
+    }
+
+}
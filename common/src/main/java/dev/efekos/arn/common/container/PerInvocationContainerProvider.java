@@ -0,0 +1,55 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.arn.common.container;
+
+import dev.efekos.arn.common.ContainerScope;
+
+import java.lang.reflect.Constructor;
+
+/**
+ * A {@link ContainerProvider} for {@link ContainerScope#PER_INVOCATION} containers.
+ *
+ * @author efekos
+ * @since 0.4
+ */
+final class PerInvocationContainerProvider implements ContainerProvider {
+
+    private final Constructor<?> constructor;
+
+    PerInvocationContainerProvider(Constructor<?> constructor) {
+        this.constructor = constructor;
+    }
+
+    @Override
+    public ContainerScope getScope() {
+        return ContainerScope.PER_INVOCATION;
+    }
+
+    @Override
+    public Object acquire(Object sender) {
+        return ContainerInstantiator.instantiate(constructor);
+    }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.arn.common.container;
+
+import dev.efekos.arn.common.ContainerScope;
+
+import java.lang.reflect.Constructor;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A {@link ContainerProvider} for {@link ContainerScope#PER_SENDER} containers. Instances are weakly bound to their
+ * senders, so players leaving the server don't keep their instances alive.
+ *
+ * @author efekos
+ * @since 0.4
+ */
+final class PerSenderContainerProvider implements ContainerProvider {
+
+    private final Constructor<?> constructor;
+    private final Map<Object, Object> instances = Collections.synchronizedMap(new WeakHashMap<>());
+
+    PerSenderContainerProvider(Constructor<?> constructor) {
+        this.constructor = constructor;
+    }
+
+    @Override
+    public ContainerScope getScope() {
+        return ContainerScope.PER_SENDER;
+    }
+
+    @Override
+    public Object acquire(Object sender) {
+        if (sender == null) return ContainerInstantiator.instantiate(constructor);
+        return instances.computeIfAbsent(sender, o -> ContainerInstantiator.instantiate(constructor));
+    }
+
+}
@@ -0,0 +1,4 @@
+/**
+ * Classes used to manage instances of {@link dev.efekos.arn.common.annotation.Container}s.
+ */
+package dev.efekos.arn.common.container;
@@ -0,0 +1,308 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.arn.common.diagnostics;
+
+import dev.efekos.arn.common.base.BaseCommandHandlerMethod;
+import dev.efekos.arn.common.container.ContainerProvider;
+import dev.efekos.arn.common.metrics.ArnMetrics;
+import dev.efekos.arn.common.metrics.CommandMetrics;
+import dev.efekos.arn.common.metrics.LatencyHistogram;
+import dev.efekos.arn.common.metrics.ResolverMetrics;
+import dev.efekos.arn.common.metrics.SlowCommandReport;
+import dev.efekos.arn.common.metrics.SlowCommandWatchdog;
+
+import java.lang.reflect.Parameter;
+import java.util.*;
+
+/**
+ * Creates the content of the diagnostics command from the handlers, containers and metrics of an Arn instance. Every
+ * section is a list of {@link DiagnosticLine}s, which are split into pages using
+ * {@link #page(String, List, int, String)}.
+ *
+ * @author efekos
+ * @since 0.4
+ */
+public final class ArnDiagnostics {
+
+    /**
+     * Amount of lines in a page, excluding the header and the footer.
+     */
+    public static final int PAGE_SIZE = 8;
+
+    private final Collection<? extends BaseCommandHandlerMethod<?, ?>> handlers;
+    private final Map<Class<?>, ContainerProvider> containers;
+    private final ArnMetrics metrics;
+    private final SlowCommandWatchdog watchdog;
+
+    /**
+     * Creates a new diagnostics instance. Given collections are read every time a section is created, so they can still
+     * be modified afterward.
+     *
+     * @param handlers   Every registered command handler method.
+     * @param containers Providers of every container, by their classes.
+     * @param metrics    Metrics of the Arn instance.
+     * @param watchdog   Watchdog of the Arn instance.
+     */
+    public ArnDiagnostics(Collection<? extends BaseCommandHandlerMethod<?, ?>> handlers,
+                          Map<Class<?>, ContainerProvider> containers, ArnMetrics metrics, SlowCommandWatchdog watchdog) {
+        this.handlers = handlers;
+        this.containers = containers;
+        this.metrics = metrics;
+        this.watchdog = watchdog;
+    }
+
+    /**
+     * Formats a duration into a short, human-readable string such as {@code 1.25ms}.
+     *
+     * @param nanos Duration in nanoseconds.
+     * @return Formatted duration.
+     */
+    public static String formatNanos(long nanos) {
+        if (nanos < 1_000) return nanos + "ns";
+        if (nanos < 1_000_000) return String.format(Locale.ROOT, "%.1f\u00b5s", nanos / 1_000d);
+        if (nanos < 1_000_000_000) return String.format(Locale.ROOT, "%.2fms", nanos / 1_000_000d);
+        return String.format(Locale.ROOT, "%.2fs", nanos / 1_000_000_000d);
+    }
+
+    /**
+     * Formats an amount of bytes into a short, human-readable string such as {@code 1.5KiB}.
+     *
+     * @param bytes Amount of bytes.
+     * @return Formatted amount.
+     */
+    public static String formatBytes(long bytes) {
+        if (bytes < 1024) return bytes + "B";
+        if (bytes < 1024 * 1024) return String.format(Locale.ROOT, "%.1fKiB", bytes / 1024d);
+        return String.format(Locale.ROOT, "%.1fMiB", bytes / (1024d * 1024d));
+    }
+
+    /**
+     * Returns a page of the given lines, with a header line that contains {@code title} and the page number. If there
+     * are more pages, a footer line that tells how to see the next page is added.
+     *
+     * @param title   Title of the section.
+     * @param lines   Every line of the section.
+     * @param page    Number of the page, starting from {@code 1}. Clamped into the available pages.
+     * @param command Command used to see the section, such as {@code /arn commands}.
+     * @return Lines of the page.
+     */
+    public static List<DiagnosticLine> page(String title, List<DiagnosticLine> lines, int page, String command) {
+        int pages = Math.max(1, (lines.size() + PAGE_SIZE - 1) / PAGE_SIZE);
+        page = Math.min(Math.max(page, 1), pages);
+
+        List<DiagnosticLine> result = new ArrayList<>(PAGE_SIZE + 2);
+        result.add(new DiagnosticLine(DiagnosticLine.Style.HEADER, title + " (" + page + "/" + pages + ")"));
+        result.addAll(lines.subList((page - 1) * PAGE_SIZE, Math.min(page * PAGE_SIZE, lines.size())));
+        if (page < pages)
+            result.add(new DiagnosticLine(DiagnosticLine.Style.MUTED, "Next page: " + command + " " + (page + 1)));
+        return result;
+    }
+
+    /**
+     * Creates a summary of the Arn instance.
+     *
+     * @return Lines of the summary.
+     */
+    public List<DiagnosticLine> summary() {
+        long invocations = 0, failures = 0;
+        for (CommandMetrics command : metrics.getCommands()) {
+            invocations += command.getInvocations();
+            failures += command.getFailures();
+        }
+        long startup = 0;
+        for (long nanos : metrics.getStartupPhases().values()) startup += nanos;
+
+        List<DiagnosticLine> lines = new ArrayList<>();
+        lines.add(new DiagnosticLine(DiagnosticLine.Style.HEADER, "Arn diagnostics"));
+        lines.add(new DiagnosticLine(DiagnosticLine.Style.TEXT, "Handlers: " + handlers.size()));
+        lines.add(new DiagnosticLine(DiagnosticLine.Style.TEXT, "Containers: " + containers.size()));
+        lines.add(new DiagnosticLine(failures == 0 ? DiagnosticLine.Style.TEXT : DiagnosticLine.Style.WARNING,
+                "Invocations: " + invocations + " (" + failures + " failed)"));
+        lines.add(new DiagnosticLine(DiagnosticLine.Style.TEXT, "Startup: " + formatNanos(startup)));
+        lines.add(new DiagnosticLine(DiagnosticLine.Style.TEXT, "Resolver timing: "
+                + (metrics.isResolverTimingEnabled() ? "enabled" : "disabled")));
+        lines.add(new DiagnosticLine(DiagnosticLine.Style.TEXT, "Watchdog: "
+                + (watchdog.isEnabled() ? formatNanos(watchdog.getBudget().toNanos()) + " budget" : "disabled")));
+        return lines;
+    }
+
+    /**
+     * Creates a line for every command handler method, sorted by the total time spent in them so hot commands come
+     * first. Hovering a line shows the resolvers of the command and more latency values.
+     *
+     * @return Lines of every command.
+     */
+    public List<DiagnosticLine> commands() {
+        List<BaseCommandHandlerMethod<?, ?>> sorted = new ArrayList<>(handlers);
+        sorted.sort(Comparator.comparingLong((BaseCommandHandlerMethod<?, ?> handler) -> {
+            CommandMetrics command = metrics.get(handler.getSignature());
+            return command == null ? 0 : command.getHandlerTimes().getTotal();
+        }).reversed());
+
+        List<DiagnosticLine> lines = new ArrayList<>(sorted.size());
+        for (BaseCommandHandlerMethod<?, ?> handler : sorted) {
+            CommandMetrics command = metrics.get(handler.getSignature());
+            long invocations = command == null ? 0 : command.getInvocations();
+            long failures = command == null ? 0 : command.getFailures();
+
+            StringBuilder text = new StringBuilder("/").append(handler.getCommand()).append(" - ").append(invocations).append("x");
+            if (command != null && invocations != 0) {
+                LatencyHistogram times = command.getHandlerTimes();
+                text.append(", p50 ").append(formatNanos(times.getPercentile(50)))
+                        .append(", p99 ").append(formatNanos(times.getPercentile(99)));
+            }
+            if (failures != 0) text.append(", ").append(failures).append(" failed");
+
+            lines.add(new DiagnosticLine(failures == 0 ? DiagnosticLine.Style.TEXT : DiagnosticLine.Style.WARNING,
+                    text.toString(), describe(handler, command)));
+        }
+        return lines;
+    }
+
+    private String describe(BaseCommandHandlerMethod<?, ?> handler, CommandMetrics command) {
+        StringBuilder builder = new StringBuilder(handler.getSignature());
+        Class<?> owner = handler.getMethod().getDeclaringClass();
+        ContainerProvider provider = containers.get(owner);
+        builder.append("\nMethod: ").append(owner.getSimpleName()).append('#').append(handler.getMethod().getName());
+        if (provider != null) builder.append(" (").append(provider.getScope()).append(')');
+
+        List<Parameter> parameters = handler.getParameters();
+        for (int i = 0; i < parameters.size(); i++) {
+            builder.append("\n  ").append(parameters.get(i).getName()).append(": ")
+                    .append(simpleName(handler.getHandlerMethodResolvers().get(i)));
+            Object argumentResolver = handler.getArgumentResolvers().get(i);
+            if (argumentResolver != null) builder.append(" / ").append(simpleName(argumentResolver));
+        }
+
+        if (command != null && command.getInvocations() != 0) {
+            LatencyHistogram resolution = command.getResolutionTimes();
+            LatencyHistogram handlerTimes = command.getHandlerTimes();
+            builder.append("\nResolve: mean ").append(formatNanos((long) resolution.getMean()))
+                    .append(", p99 ").append(formatNanos(resolution.getPercentile(99)))
+                    .append("\nHandler: mean ").append(formatNanos((long) handlerTimes.getMean()))
+                    .append(", p99 ").append(formatNanos(handlerTimes.getPercentile(99)))
+                    .append(", max ").append(formatNanos(handlerTimes.getMax()))
+                    .append("\nSucceeded: ").append(command.getSuccesses())
+                    .append(", failed: ").append(command.getFailures());
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Creates a line for every container, showing its scope and how many command handler methods it declares.
+     *
+     * @return Lines of every container.
+     */
+    public List<DiagnosticLine> containers() {
+        Map<Class<?>, Integer> handlerCounts = new HashMap<>();
+        for (BaseCommandHandlerMethod<?, ?> handler : handlers)
+            handlerCounts.merge(handler.getMethod().getDeclaringClass(), 1, Integer::sum);
+
+        List<Class<?>> sorted = new ArrayList<>(containers.keySet());
+        sorted.sort(Comparator.comparing(Class::getName));
+
+        List<DiagnosticLine> lines = new ArrayList<>(sorted.size());
+        for (Class<?> container : sorted)
+            lines.add(new DiagnosticLine(DiagnosticLine.Style.TEXT,
+                    container.getSimpleName() + " - " + containers.get(container).getScope(),
+                    container.getName() + "\nHandlers: " + handlerCounts.getOrDefault(container, 0)));
+        return lines;
+    }
+
+    /**
+     * Creates a line for every phase of starting up Arn, in the order they ran, and a line for their total.
+     *
+     * @return Lines of every startup phase.
+     */
+    public List<DiagnosticLine> startup() {
+        List<DiagnosticLine> lines = new ArrayList<>();
+        long total = 0;
+        for (Map.Entry<String, Long> entry : metrics.getStartupPhases().entrySet()) {
+            lines.add(new DiagnosticLine(DiagnosticLine.Style.TEXT, entry.getKey() + " - " + formatNanos(entry.getValue())));
+            total += entry.getValue();
+        }
+        lines.add(new DiagnosticLine(DiagnosticLine.Style.MUTED, "Total - " + formatNanos(total)));
+        return lines;
+    }
+
+    /**
+     * Creates a line for every resolver class that was timed, sorted by the total time spent in them. Hovering a line
+     * shows the parameters the resolver resolves.
+     *
+     * @return Lines of every resolver class.
+     * @see ArnMetrics#setResolverTimingEnabled(boolean)
+     */
+    public List<DiagnosticLine> resolvers() {
+        List<DiagnosticLine> lines = new ArrayList<>();
+        if (!metrics.isResolverTimingEnabled())
+            lines.add(new DiagnosticLine(DiagnosticLine.Style.MUTED, "Resolver timing is disabled."));
+
+        Map<Class<?>, StringBuilder> parameters = new HashMap<>();
+        for (ResolverMetrics resolver : metrics.getResolvers()) {
+            if (resolver.getTimes().getCount() == 0) continue;
+            parameters.computeIfAbsent(resolver.getResolverClass(), k -> new StringBuilder(k.getName()))
+                    .append("\n  ").append(resolver.getParameterName()).append(" of ").append(resolver.getSignature())
+                    .append(": mean ").append(formatNanos((long) resolver.getTimes().getMean()));
+        }
+
+        for (ArnMetrics.ResolverTotals totals : metrics.getResolverTotals()) {
+            if (totals.calls() == 0) continue;
+            lines.add(new DiagnosticLine(DiagnosticLine.Style.TEXT, totals.resolverClass().getSimpleName() + " - "
+                    + totals.calls() + "x, mean " + formatNanos(totals.totalNanos() / totals.calls()) + ", "
+                    + formatBytes(totals.allocatedBytes() / totals.calls()) + "/call",
+                    parameters.get(totals.resolverClass()).toString()));
+        }
+        return lines;
+    }
+
+    /**
+     * Creates a line for every report of the watchdog, newest first. Hovering a line shows the arguments of the command
+     * and the top of its stack trace if it was captured.
+     *
+     * @return Lines of every slow command report.
+     */
+    public List<DiagnosticLine> slowCommands() {
+        List<DiagnosticLine> lines = new ArrayList<>();
+        if (!watchdog.isEnabled())
+            lines.add(new DiagnosticLine(DiagnosticLine.Style.MUTED, "Watchdog is disabled."));
+
+        for (SlowCommandReport report : watchdog.getReports()) {
+            StringBuilder hover = new StringBuilder(report.signature()).append('\n').append(report.time())
+                    .append("\nBudget: ").append(formatNanos(report.budgetNanos()));
+            for (String argument : report.arguments()) hover.append("\n  ").append(argument);
+            if (report.stackTrace() != null)
+                for (int i = 0; i < Math.min(report.stackTrace().length, PAGE_SIZE); i++)
+                    hover.append("\nat ").append(report.stackTrace()[i]);
+            lines.add(new DiagnosticLine(DiagnosticLine.Style.WARNING, formatNanos(report.nanos()) + " - "
+                    + report.signature() + " by " + report.sender(), hover.toString()));
+        }
+        return lines;
+    }
+
+    private static String simpleName(Object o) {
+        return o == null ? "none" : o.getClass().getSimpleName();
+    }
+
+}
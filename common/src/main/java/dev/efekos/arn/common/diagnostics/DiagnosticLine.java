@@ -0,0 +1,75 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.arn.common.diagnostics;
+
+/**
+ * A single line of diagnostics output.
+ *
+ * @param style How the line should be colored.
+ * @param text  Text of the line.
+ * @param hover Text shown when the line is hovered, or {@code null} if there isn't one.
+ * @author efekos
+ * @since 0.4
+ */
+public record DiagnosticLine(Style style, String text, String hover) {
+
+    /**
+     * Creates a line without a hover text.
+     *
+     * @param style How the line should be colored.
+     * @param text  Text of the line.
+     */
+    public DiagnosticLine(Style style, String text) {
+        this(style, text, null);
+    }
+
+    /**
+     * Styles a {@link DiagnosticLine} can have. Every platform maps these to its own colors.
+     */
+    public enum Style {
+
+        /**
+         * Title of a section.
+         */
+        HEADER,
+
+        /**
+         * Regular content.
+         */
+        TEXT,
+
+        /**
+         * Hints and other less important content.
+         */
+        MUTED,
+
+        /**
+         * Content that needs attention, such as a command that fails.
+         */
+        WARNING
+
+    }
+
+}
@@ -0,0 +1,4 @@
+/**
+ * Platform-independent content of the diagnostics command, which platforms render as chat messages.
+ */
+package dev.efekos.arn.common.diagnostics;
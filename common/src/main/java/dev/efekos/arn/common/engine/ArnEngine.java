@@ -0,0 +1,963 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.arn.common.engine;
+
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.LiteralMessage;
+import com.mojang.brigadier.arguments.BoolArgumentType;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.builder.ArgumentBuilder;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.builder.RequiredArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import com.mojang.brigadier.exceptions.DynamicCommandExceptionType;
+import dev.efekos.arn.common.CommandAnnotationData;
+import dev.efekos.arn.common.CommandAnnotationLiteral;
+import dev.efekos.arn.common.annotation.*;
+import dev.efekos.arn.common.base.BaseCmdResolver;
+import dev.efekos.arn.common.base.BaseExceptionHandlerMethod;
+import dev.efekos.arn.common.base.BaseHndResolver;
+import dev.efekos.arn.common.container.ContainerProvider;
+import dev.efekos.arn.common.diagnostics.ArnDiagnostics;
+import dev.efekos.arn.common.diagnostics.DiagnosticLine;
+import dev.efekos.arn.common.exception.ArnException;
+import dev.efekos.arn.common.exception.ArnSyntaxException;
+import dev.efekos.arn.common.exception.ExceptionMap;
+import dev.efekos.arn.common.index.ClassIndex;
+import dev.efekos.arn.common.index.ContainerIndex;
+import dev.efekos.arn.common.invoke.ArgumentBindingPlan;
+import dev.efekos.arn.common.invoke.ExceptionHandlerRegistry;
+import dev.efekos.arn.common.invoke.HandlerReturnType;
+import dev.efekos.arn.common.invoke.MethodInvoker;
+import dev.efekos.arn.common.jfr.CommandExecutionEvent;
+import dev.efekos.arn.common.jfr.ExceptionHandlerEvent;
+import dev.efekos.arn.common.jfr.StartupPhaseEvent;
+import dev.efekos.arn.common.metrics.ArnMetrics;
+import dev.efekos.arn.common.metrics.CommandMetrics;
+import dev.efekos.arn.common.metrics.SlowCommandWatchdog;
+import dev.efekos.arn.common.resolver.ResolverRegistry;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Platform-neutral core of Arn. Validates command handler methods, builds a Brigadier command tree for each of them
+ * and executes them against any command source type {@code S}, without depending on a running server. Platforms
+ * extend this class to tell it how to get a sender out of a command source, how to check permissions and how to run
+ * a task on the main thread, then register {@link #getNodes()} to the dispatcher of their server.
+ * <p>
+ * An engine is used in the following order:
+ * <ol>
+ *     <li>{@link #index(ClassIndex, Collection, Class, Class, boolean)} to find containers,</li>
+ *     <li>{@link #createContainerProviders(ContainerIndex)} to instantiate them,</li>
+ *     <li>adding resolvers to {@link #getHandlerResolvers()} and {@link #getCommandResolvers()},</li>
+ *     <li>{@link #scanExceptionHandlerMethods(ContainerIndex)} and {@link #scanCommands(ContainerIndex)},</li>
+ *     <li>{@link #buildCommands()}, followed by {@link #register(CommandDispatcher)}.</li>
+ * </ol>
+ *
+ * @param <S> Type of the command source.
+ * @param <M> Type of the command handler methods.
+ * @param <C> Type of the command argument resolvers.
+ * @param <H> Type of the handler method argument resolvers.
+ * @author efekos
+ * @since 0.4
+ */
+public abstract class ArnEngine<S, M extends BrigadierCommandHandlerMethod<S, M, C, H>,
+        C extends BaseCmdResolver<ArgumentBuilder<S, ?>>, H extends BaseHndResolver<CommandContext<S>, M>> {
+
+    /**
+     * Generic exception type used to handle {@link ArnSyntaxException}s, unless a platform overrides
+     * {@link #syntaxException(String)}.
+     */
+    public static final DynamicCommandExceptionType GENERIC = new DynamicCommandExceptionType(
+            o -> new LiteralMessage(String.valueOf(o)));
+
+    private static final Pattern LITERAL_PATTERN = Pattern.compile("^[a-z]+$");
+
+    private final String platform;
+    private final List<H> handlerResolvers = new ArrayList<>();
+    private final List<C> commandResolvers = new ArrayList<>();
+    private final ExceptionMap<H> handlerResolverExceptions = new ExceptionMap<>();
+    private final ExceptionMap<C> commandResolverExceptions = new ExceptionMap<>();
+    private final List<M> handlers = new ArrayList<>();
+    private final List<CompiledCommand<S, M>> commands = new ArrayList<>();
+    private final SenderTypeIndex senderTypes = new SenderTypeIndex();
+    private final Set<String> signatures = new HashSet<>();
+    private final Map<Class<?>, Object> containerInstances = new HashMap<>();
+    private final Map<Class<?>, ContainerProvider> containerProviders = new HashMap<>();
+    private final List<LiteralArgumentBuilder<S>> nodes = new ArrayList<>();
+    private final ArnMetrics metrics = new ArnMetrics();
+    private final SlowCommandWatchdog watchdog = new SlowCommandWatchdog();
+    private ExceptionHandlerRegistry<BaseExceptionHandlerMethod<CommandContext<S>>> exceptionHandlers = new ExceptionHandlerRegistry<>(List.of());
+    private ClassIndex classIndex;
+    private Executor asyncExecutor;
+
+    /**
+     * Creates a new engine.
+     *
+     * @param platform      Name of the platform, used in startup phase events.
+     * @param asyncExecutor Executor that runs handler methods annotated with {@link Async}.
+     */
+    protected ArnEngine(String platform, Executor asyncExecutor) {
+        this.platform = Objects.requireNonNull(platform, "platform");
+        this.asyncExecutor = Objects.requireNonNull(asyncExecutor, "asyncExecutor");
+    }
+
+    /**
+     * Returns the annotation applied to the method, its declaring class, or the package of its declaring class, in
+     * that order.
+     *
+     * @param method     A method.
+     * @param annotation Type of the annotation.
+     * @param <T>        Type of the annotation.
+     * @return The applied annotation, or {@code null} if there isn't one.
+     */
+    protected static <T extends Annotation> T getApplied(Method method, Class<T> annotation) {
+        T applied = method.getAnnotation(annotation);
+        if (applied != null) return applied;
+        applied = method.getDeclaringClass().getAnnotation(annotation);
+        if (applied != null) return applied;
+        Package pkg = method.getDeclaringClass().getPackage();
+        return pkg == null ? null : pkg.getAnnotation(annotation);
+    }
+
+    /**
+     * Checks whether the annotation is applied to the method, its declaring class or its package.
+     *
+     * @param method     A method.
+     * @param annotation Type of the annotation.
+     * @return Whether the annotation is applied.
+     */
+    protected static boolean isApplied(Method method, Class<? extends Annotation> annotation) {
+        return getApplied(method, annotation) != null;
+    }
+
+    /**
+     * Chains the given nodes so every node is a child of the node before it, and the last node executes
+     * {@code executes}.
+     *
+     * @param nodes    Nodes to chain. Can't be empty.
+     * @param executes Command executed by the last node.
+     * @param <S>      Type of the command source.
+     * @return The first node, with every other node under it.
+     */
+    public static <S> ArgumentBuilder<S, ?> chain(List<? extends ArgumentBuilder<S, ?>> nodes, com.mojang.brigadier.Command<S> executes) {
+        ArgumentBuilder<S, ?> chained = nodes.get(nodes.size() - 1).executes(executes);
+        for (int i = nodes.size() - 2; i >= 0; i--)
+            chained = nodes.get(i).then(chained);
+        return chained;
+    }
+
+    /**
+     * Runs a startup phase, recording a {@link StartupPhaseEvent} and its duration in {@link #getMetrics()}.
+     *
+     * @param name Name of the phase.
+     * @param task The phase.
+     * @param <E>  Type of the exception the phase can throw.
+     * @throws E If the phase throws it.
+     */
+    public <E extends Exception> void phase(String name, StartupPhaseEvent.Task<E> task) throws E {
+        phase(name, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs a startup phase that produces a value, recording a {@link StartupPhaseEvent} and its duration in
+     * {@link #getMetrics()}. Every other phase method goes through this one.
+     *
+     * @param name        Name of the phase.
+     * @param computation The phase.
+     * @param <T>         Type of the value the phase produces.
+     * @param <E>         Type of the exception the phase can throw.
+     * @return Value produced by the phase.
+     * @throws E If the phase throws it.
+     */
+    public <T, E extends Exception> T phase(String name, StartupPhaseEvent.Computation<T, E> computation) throws E {
+        long start = System.nanoTime();
+        T result = StartupPhaseEvent.record(platform, name, computation);
+        metrics.recordStartupPhase(name, System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * Groups containers of {@code classIndex} by their role. The index is also used to create invokers of the
+     * handler methods found later.
+     *
+     * @param classIndex         Index of the classes to scan.
+     * @param exclusions         Classes to leave out.
+     * @param configurerType     Configurer type of the platform.
+     * @param customArgumentType Custom argument type of the platform.
+     * @param includeSubTypes    Whether subtypes of the configurer and custom argument types are indexed even if they
+     *                           aren't annotated with {@link Container}.
+     * @return Containers grouped by their role.
+     */
+    public ContainerIndex index(ClassIndex classIndex, Collection<Class<?>> exclusions, Class<?> configurerType,
+                                Class<?> customArgumentType, boolean includeSubTypes) {
+        this.classIndex = classIndex;
+        return ContainerIndex.create(classIndex, exclusions, configurerType, customArgumentType, includeSubTypes);
+    }
+
+    /**
+     * Instantiates every container of the index, and creates a {@link ContainerProvider} for it. A container that
+     * can't be instantiated fails startup, unless {@link #isContainerRequired(Class)} returns {@code false} for it.
+     *
+     * @param index Containers to instantiate.
+     * @throws ArnException If a required container can't be instantiated.
+     */
+    public void createContainerProviders(ContainerIndex index) throws ArnException {
+        for (Class<?> clazz : index.getContainers()) {
+            if (clazz.isInterface() || clazz.isAnnotation() || clazz.isEnum())
+                continue;
+
+            try {
+                Constructor<?> ctor = clazz.getConstructor();
+                ctor.setAccessible(true);
+                Object o = ctor.newInstance();
+                containerInstances.put(clazz, o);
+                containerProviders.put(clazz, ContainerProvider.of(clazz, o));
+            } catch (Exception e) {
+                if (isContainerRequired(clazz))
+                    throw ArnEngineExceptions.CONTAINER_INSTANTIATE.create(clazz, e);
+                containerProviders.put(clazz, ContainerProvider.singleton(null));
+            }
+        }
+    }
+
+    /**
+     * Returns the instance of the given container created by {@link #createContainerProviders(ContainerIndex)}.
+     *
+     * @param clazz A container class.
+     * @param <T>   Type of the container.
+     * @return The instance, or {@code null} if the class wasn't instantiated.
+     */
+    public <T> T getContainerInstance(Class<T> clazz) {
+        return clazz.cast(containerInstances.get(clazz));
+    }
+
+    /**
+     * Creates an exception handler method for every method annotated with {@link ExceptionHandler}.
+     *
+     * @param index Containers to scan.
+     */
+    public void scanExceptionHandlerMethods(ContainerIndex index) {
+        List<BaseExceptionHandlerMethod<CommandContext<S>>> methods = new ArrayList<>();
+        for (Method method : index.getExceptionHandlerMethods()) {
+            ExceptionHandler annotation = method.getAnnotation(ExceptionHandler.class);
+            BaseExceptionHandlerMethod<CommandContext<S>> handlerMethod = createExceptionHandlerMethod(method, annotation.value());
+            handlerMethod.setScoped(annotation.scoped());
+            handlerMethod.setInvoker(classIndex.getInvoker(method));
+            methods.add(handlerMethod);
+        }
+        exceptionHandlers = new ExceptionHandlerRegistry<>(methods);
+    }
+
+    /**
+     * Validates every method annotated with {@link Command} and creates a handler method for it. Resolvers must be
+     * added before calling this method.
+     *
+     * @param index Containers to scan.
+     * @throws ArnException If a method isn't a valid command handler method.
+     */
+    public void scanCommands(ContainerIndex index) throws ArnException {
+        ResolverRegistry<H, C> registry = new ResolverRegistry<>(handlerResolvers, handlerResolverExceptions, commandResolvers, commandResolverExceptions);
+        for (Method method : index.getCommandMethods())
+            command(method.getAnnotation(Command.class), method, registry);
+    }
+
+    private void command(Command annotation, Method method, ResolverRegistry<H, C> registry) throws ArnException {
+        if (HandlerReturnType.of(method) == null)
+            throw ArnEngineExceptions.HM_NOT_INT.create(method, annotation);
+        for (Class<?> exception : method.getExceptionTypes())
+            if (exception != CommandSyntaxException.class && exception != ArnSyntaxException.class)
+                throw ArnEngineExceptions.HM_THROWS.create(method, annotation, exception);
+
+        Parameter[] parameters = method.getParameters();
+        int senders = 0;
+        for (Parameter parameter : parameters)
+            if (isSenderParameter(parameter)) senders++;
+        if (senders > 1)
+            throw ArnEngineExceptions.HM_MULTIPLE_SENDERS.create(method, annotation);
+
+        List<CommandAnnotationLiteral> literals = new ArrayList<>();
+        for (String s : annotation.value().split("\\" + CommandAnnotationLiteral.SEPARATOR_CHAR_STRING)) {
+            CommandAnnotationLiteral literal = CommandAnnotationLiteral.parse(s);
+            if (literal.getOffset() < 0)
+                throw ArnEngineExceptions.LITERAL_NEG_OFFSET.create(annotation);
+            if (!LITERAL_PATTERN.matcher(literal.getLiteral()).matches())
+                throw ArnEngineExceptions.LITERAL_ILLEGAL.create(literal, annotation);
+            literals.add(literal);
+        }
+
+        List<H> handlerMethodResolvers = new ArrayList<>(parameters.length);
+        List<C> argumentResolvers = new ArrayList<>(parameters.length);
+        StringBuilder signature = new StringBuilder(annotation.value()).append('(');
+        for (int i = 0; i < parameters.length; i++) {
+            Parameter parameter = parameters[i];
+            ResolverRegistry.Match<H, C> match = registry.find(parameter);
+            if (!match.isResolvable())
+                throw ArnEngineExceptions.HM_NOT_APPLICABLE.create(method, annotation, parameter);
+            if (i != 0) signature.append(',');
+            signature.append(parameter.getType().getName());
+            handlerMethodResolvers.add(match.handlerResolver());
+            argumentResolvers.add(match.commandResolver());
+        }
+        signature.append(')');
+
+        M handlerMethod = createHandlerMethod();
+        handlerMethod.setCommand(annotation.value());
+        handlerMethod.setMethod(method);
+        handlerMethod.setInvoker(classIndex.getInvoker(method));
+        handlerMethod.setParameters(Arrays.asList(parameters));
+        handlerMethod.setBlocksCommandBlock(isApplied(method, BlockCommandBlock.class));
+        handlerMethod.setBlocksConsole(isApplied(method, BlockConsole.class));
+        handlerMethod.setBlocksPlayer(isApplied(method, BlockPlayer.class));
+
+        OnlyAllowSender onlyAllowSender = getApplied(method, OnlyAllowSender.class);
+        BlockSenderTypes blockSenderTypes = getApplied(method, BlockSenderTypes.class);
+        if (onlyAllowSender != null)
+            handlerMethod.setIncludedSender(onlyAllowSender.value());
+        else if (blockSenderTypes != null)
+            for (Class<?> aClass : blockSenderTypes.value())
+                handlerMethod.addSenderBlock(aClass);
+
+        CommandAnnotationData data = new CommandAnnotationData(annotation);
+        if (data.getDescription().isEmpty())
+            data.setDescription(Optional.ofNullable(getApplied(method, Description.class)).map(Description::value).orElse("No description provided."));
+        if (data.getPermission().isEmpty())
+            data.setPermission(Optional.ofNullable(getApplied(method, Permission.class)).map(Permission::value).orElse(""));
+        data.setLiterals(literals);
+        handlerMethod.setAnnotationData(data);
+
+        handlerMethod.setArgumentResolvers(argumentResolvers);
+        handlerMethod.setHandlerMethodResolvers(handlerMethodResolvers);
+        handlerMethod.setSignature(signature.toString());
+        handlerMethod.setBindingPlan(ArgumentBindingPlan.compile(handlerMethodResolvers, handlerMethod.getParameters(),
+                metrics, handlerMethod.getSignature()));
+
+        if (!signatures.add(handlerMethod.getSignature()))
+            throw ArnEngineExceptions.HM_DUPLICATE.create(handlerMethod);
+
+        CompiledCommand<S, M> command;
+        try {
+            command = CompiledCommand.of(handlerMethod, containerProviders.get(method.getDeclaringClass()),
+                    metrics.forCommand(handlerMethod.getSignature()), senderTypes);
+        } catch (IllegalStateException e) {
+            throw ArnEngineExceptions.HM_SENDER_TYPES.create(method, annotation);
+        }
+        handlers.add(handlerMethod);
+        commands.add(command);
+    }
+
+    /**
+     * Builds the command tree of every handler method found by {@link #scanCommands(ContainerIndex)}. Literals with
+     * an offset of {@code n} are placed before the {@code n}th argument, or after the last argument if {@code n} is
+     * equal to the amount of arguments. Every literal gets the requirement returned from
+     * {@link #getRequirement(CompiledCommand)}, so literals after an argument stay hidden from senders that can't use
+     * the command even when the argument node is shared with a command they can use.
+     *
+     * @throws ArnException If the tree of a command can't be built.
+     */
+    @SuppressWarnings("unchecked")
+    public void buildCommands() throws ArnException {
+        for (int c = 0; c < commands.size(); c++) {
+            CompiledCommand<S, M> command = commands.get(c);
+            M method = handlers.get(c);
+            try {
+                CommandAnnotationLiteral[] literals = command.literals();
+                Parameter[] arguments = command.arguments();
+                BaseCmdResolver<ArgumentBuilder<S, ?>>[] resolvers = command.resolvers();
+                Predicate<S> requirement = getRequirement(command);
+                List<ArgumentBuilder<S, ?>> methodNodes = new ArrayList<>();
+
+                for (CommandAnnotationLiteral lit : literals)
+                    if (lit.getOffset() == 0)
+                        methodNodes.add(LiteralArgumentBuilder.<S>literal(lit.getLiteral()).requires(requirement));
+
+                for (int i = 0; i < arguments.length; i++) {
+                    if (i != 0)
+                        addLiterals(methodNodes, literals, i, requirement);
+                    ArgumentBuilder<S, ?> builder = resolvers[i].apply(arguments[i]);
+                    if (builder != null)
+                        methodNodes.add(builder);
+                }
+                if (arguments.length != 0)
+                    addLiterals(methodNodes, literals, arguments.length, requirement);
+
+                nodes.add((LiteralArgumentBuilder<S>) chain(methodNodes, createCommand(command, method)));
+            } catch (Exception e) {
+                throw ArnEngineExceptions.COMMAND_REGISTER_ERROR.create(method, e);
+            }
+        }
+    }
+
+    private void addLiterals(List<ArgumentBuilder<S, ?>> nodes, CommandAnnotationLiteral[] literals, int offset, Predicate<S> requirement) {
+        for (CommandAnnotationLiteral lit : literals)
+            if (lit.getOffset() == offset)
+                nodes.add(LiteralArgumentBuilder.<S>literal(lit.getLiteral()).requires(requirement));
+    }
+
+    /**
+     * Registers every node built by {@link #buildCommands()} to the given dispatcher.
+     *
+     * @param dispatcher A dispatcher.
+     */
+    public void register(CommandDispatcher<S> dispatcher) {
+        for (LiteralArgumentBuilder<S> node : nodes)
+            dispatcher.register(node);
+    }
+
+    /**
+     * Builds the diagnostics command of this engine, showing {@link ArnDiagnostics} of the commands and containers
+     * found so far. Should be called after {@link #scanCommands(ContainerIndex)}. Lines are sent to the sender with
+     * {@link #sendDiagnostics(Object, List)}.
+     *
+     * @param literal    Literal of the command, such as {@code arn}.
+     * @param permission Permission needed to use the command.
+     * @param reportFile File the {@code dump} subcommand writes the resolver report to.
+     * @return Root node of the command.
+     */
+    public LiteralArgumentBuilder<S> buildDiagnostics(String literal, String permission, Path reportFile) {
+        ArnDiagnostics diagnostics = new ArnDiagnostics(handlers, containerProviders, metrics, watchdog);
+
+        return LiteralArgumentBuilder.<S>literal(literal)
+                .requires(source -> hasPermission(source, permission))
+                .executes(c -> sendDiagnostics(c.getSource(), diagnostics.summary()))
+                .then(pagedDiagnostics(literal, "commands", "Commands", diagnostics::commands))
+                .then(pagedDiagnostics(literal, "containers", "Containers", diagnostics::containers))
+                .then(pagedDiagnostics(literal, "startup", "Startup phases", diagnostics::startup))
+                .then(pagedDiagnostics(literal, "resolvers", "Resolvers", diagnostics::resolvers))
+                .then(pagedDiagnostics(literal, "slow", "Slow commands", diagnostics::slowCommands))
+                .then(LiteralArgumentBuilder.<S>literal("watchdog").then(RequiredArgumentBuilder.<S, Integer>argument("budget", IntegerArgumentType.integer(0)).executes(c -> {
+                    int budget = IntegerArgumentType.getInteger(c, "budget");
+                    watchdog.setBudget(Duration.ofMillis(budget));
+                    return sendDiagnostics(c.getSource(), budget == 0 ? "Watchdog is now disabled." : "Watchdog budget is now " + budget + "ms.");
+                })))
+                .then(LiteralArgumentBuilder.<S>literal("timing").then(RequiredArgumentBuilder.<S, Boolean>argument("enabled", BoolArgumentType.bool()).executes(c -> {
+                    boolean enabled = BoolArgumentType.getBool(c, "enabled");
+                    metrics.setResolverTimingEnabled(enabled);
+                    return sendDiagnostics(c.getSource(), "Resolver timing is now " + (enabled ? "enabled." : "disabled."));
+                })))
+                .then(LiteralArgumentBuilder.<S>literal("dump").executes(c -> {
+                    try {
+                        metrics.dumpResolverReport(reportFile);
+                    } catch (IOException e) {
+                        throw syntaxException(e.getMessage());
+                    }
+                    return sendDiagnostics(c.getSource(), "Dumped resolver report to " + reportFile);
+                }))
+                .then(LiteralArgumentBuilder.<S>literal("reset").executes(c -> {
+                    metrics.reset();
+                    return sendDiagnostics(c.getSource(), "Metrics were reset.");
+                }));
+    }
+
+    private LiteralArgumentBuilder<S> pagedDiagnostics(String literal, String name, String title, Supplier<List<DiagnosticLine>> lines) {
+        String command = "/" + literal + " " + name;
+        return LiteralArgumentBuilder.<S>literal(name)
+                .executes(c -> sendDiagnostics(c.getSource(), ArnDiagnostics.page(title, lines.get(), 1, command)))
+                .then(RequiredArgumentBuilder.<S, Integer>argument("page", IntegerArgumentType.integer(1)).executes(c -> sendDiagnostics(c.getSource(),
+                        ArnDiagnostics.page(title, lines.get(), IntegerArgumentType.getInteger(c, "page"), command))));
+    }
+
+    private int sendDiagnostics(S source, String text) {
+        return sendDiagnostics(source, List.of(new DiagnosticLine(DiagnosticLine.Style.TEXT, text)));
+    }
+
+    private int sendDiagnostics(S source, List<DiagnosticLine> lines) {
+        for (DiagnosticLine line : lines)
+            sendDiagnostic(source, line);
+        return 1;
+    }
+
+    /**
+     * Creates the command that executes a compiled command. {@code method} is only passed on to the resolvers of the
+     * binding plan, which take the handler method they resolve arguments of.
+     */
+    private com.mojang.brigadier.Command<S> createCommand(CompiledCommand<S, M> command, M method) {
+        Class<?> owner = command.owner();
+        ContainerProvider provider = command.provider();
+        MethodInvoker invoker = command.invoker();
+        ArgumentBindingPlan<CommandContext<S>, M> plan = command.plan();
+        String signature = command.signature();
+        String permission = command.permission();
+        boolean async = command.async();
+        Timeout timeout = command.timeout();
+        CommandMetrics commandMetrics = command.metrics();
+
+        return commandContext -> {
+
+            S source = commandContext.getSource();
+            if (permission != null && !hasPermission(source, permission))
+                return 1;
+            checkSender(command, source);
+            Object sender = getSender(source);
+
+            CommandExecutionEvent event = new CommandExecutionEvent();
+            event.begin();
+            commandMetrics.recordInvocation();
+            long start = System.nanoTime();
+            Object[] objects;
+            try {
+                objects = plan.bind(method, commandContext);
+            } catch (ArnSyntaxException e) {
+                commandMetrics.recordFailure();
+                event.finish(signature, sender, System.nanoTime() - start, 0, false, CommandExecutionEvent.Result.REJECTED);
+                throw syntaxException(e.getMessage());
+            } catch (RuntimeException e) {
+                commandMetrics.recordFailure();
+                event.finish(signature, sender, System.nanoTime() - start, 0, false, CommandExecutionEvent.Result.EXCEPTION);
+                throw e;
+            }
+            long resolved = System.nanoTime();
+            long resolveNanos = resolved - start;
+            commandMetrics.recordResolution(resolveNanos);
+
+            if (async) {
+                executeAsync(invoker, timeout, owner, provider, commandMetrics, event, resolveNanos, sender, commandContext, objects);
+                return 1;
+            }
+
+            Object container = provider.acquire(sender);
+            Object result;
+            SlowCommandWatchdog.Watch watch = watchdog.start();
+            try {
+                result = invoker.invoke(container, objects);
+            } catch (Throwable ex) {
+                long invokeNanos = System.nanoTime() - resolved;
+                if (watch != null) watchdog.finish(watch, signature, getSenderName(source), objects);
+                commandMetrics.recordHandler(invokeNanos, false);
+                event.finish(signature, sender, resolveNanos, invokeNanos, false, CommandExecutionEvent.Result.EXCEPTION);
+                provider.release(container);
+                return handleException(ex, owner, commandContext, sender);
+            }
+            if (watch != null) watchdog.finish(watch, signature, getSenderName(source), objects);
+            if (result instanceof CompletionStage<?> stage) {
+                subscribe(stage, timeout, owner, provider, container, commandMetrics, event, resolveNanos, resolved, commandContext, sender);
+                return 1;
+            }
+            long invokeNanos = System.nanoTime() - resolved;
+            boolean success = result != null;
+            commandMetrics.recordHandler(invokeNanos, success);
+            event.finish(signature, sender, resolveNanos, invokeNanos, false,
+                    success ? CommandExecutionEvent.Result.SUCCESS : CommandExecutionEvent.Result.EXCEPTION);
+            provider.release(container);
+            if (!success)
+                throw syntaxException("Handler method of command '" + signature + "' returned null.");
+            return (int) result;
+
+        };
+    }
+
+    private void executeAsync(MethodInvoker invoker, Timeout timeout, Class<?> owner, ContainerProvider provider,
+                              CommandMetrics commandMetrics, CommandExecutionEvent event, long resolveNanos,
+                              Object sender, CommandContext<S> context, Object[] objects) {
+        Object container = provider.acquire(sender);
+        try {
+            asyncExecutor.execute(() -> {
+                long start = System.nanoTime();
+                CompletionStage<?> stage;
+                try {
+                    Object result = invoker.invoke(container, objects);
+                    stage = result instanceof CompletionStage<?> s ? s : CompletableFuture.completedFuture(result);
+                } catch (Throwable ex) {
+                    stage = CompletableFuture.failedFuture(ex);
+                }
+                subscribe(stage, timeout, owner, provider, container, commandMetrics, event, resolveNanos, start, context, sender);
+            });
+        } catch (RejectedExecutionException ex) {
+            // Goes through the same path as a failed handler, so the container is released and the failure recorded.
+            subscribe(CompletableFuture.failedFuture(ex), timeout, owner, provider, container, commandMetrics, event,
+                    resolveNanos, System.nanoTime(), context, sender);
+        }
+    }
+
+    private void subscribe(CompletionStage<?> stage, Timeout timeout, Class<?> owner, ContainerProvider provider, Object container,
+                           CommandMetrics commandMetrics, CommandExecutionEvent event, long resolveNanos, long start,
+                           CommandContext<S> context, Object sender) {
+        // toCompletableFuture() may return the handler's own future, which the timeout must not fail. A copy fails
+        // with a CompletionException when the handler's future does, so only Arn's timeout fails it directly with a
+        // TimeoutException.
+        CompletableFuture<?> future = stage.toCompletableFuture();
+        if (timeout != null) future = future.copy().orTimeout(timeout.value(), timeout.unit());
+        future.whenComplete((result, throwable) -> {
+            long invokeNanos = System.nanoTime() - start;
+            commandMetrics.recordHandler(invokeNanos, throwable == null);
+            event.finish(commandMetrics.getSignature(), sender, resolveNanos, invokeNanos, true,
+                    throwable == null ? CommandExecutionEvent.Result.SUCCESS : CommandExecutionEvent.Result.EXCEPTION);
+        });
+        future.whenComplete((result, throwable) -> runSync(() -> {
+            provider.release(container);
+            if (throwable == null) return;
+            Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+            if (timeout != null && throwable instanceof TimeoutException)
+                cause = new TimeoutException("Command '" + commandMetrics.getSignature() + "' timed out after "
+                        + timeout.value() + " " + timeout.unit().name().toLowerCase(Locale.ENGLISH) + ".");
+            try {
+                handleException(cause, owner, context, sender);
+            } catch (CommandSyntaxException e) {
+                sendError(context.getSource(), e.getMessage());
+            }
+        }));
+    }
+
+    private int handleException(Throwable ex, Class<?> owner, CommandContext<S> context, Object sender) throws CommandSyntaxException {
+        if (ex instanceof CommandSyntaxException e)
+            throw e;
+        if (ex instanceof ArnSyntaxException e)
+            throw syntaxException(e.getMessage());
+        if (ex instanceof IllegalAccessException e) {
+            ArnEngineExceptions.COMMAND_NO_ACCESS.create().initCause(e).printStackTrace();
+            return 1;
+        }
+        ExceptionHandlerEvent event = new ExceptionHandlerEvent();
+        event.begin();
+        BaseExceptionHandlerMethod<CommandContext<S>> handlerMethod = null;
+        try {
+            handlerMethod = exceptionHandlers.find(ex.getClass(), owner);
+            if (handlerMethod == null)
+                throw syntaxException(ex.getMessage());
+            Object[] params = handlerMethod.fillArguments(ex, context);
+            ContainerProvider handlerProvider = containerProviders.get(handlerMethod.getMethod().getDeclaringClass());
+            Object handlerContainer = handlerProvider.acquire(sender);
+            try {
+                handlerMethod.getInvoker().invoke(handlerContainer, params);
+            } finally {
+                handlerProvider.release(handlerContainer);
+            }
+        } catch (CommandSyntaxException exe) {
+            throw exe;
+        } catch (Throwable exe) {
+            throw syntaxException(exe.getMessage());
+        } finally {
+            event.finish(ex.getClass(), owner, handlerMethod == null ? null : handlerMethod.getMethod());
+        }
+        return 1;
+    }
+
+    /**
+     * Creates an empty command handler method.
+     *
+     * @return A new handler method.
+     */
+    protected abstract M createHandlerMethod();
+
+    /**
+     * Creates an exception handler method of the platform.
+     *
+     * @param method         Method annotated with {@link ExceptionHandler}.
+     * @param exceptionClass Type of the exception the method handles.
+     * @return A new exception handler method.
+     */
+    protected abstract BaseExceptionHandlerMethod<CommandContext<S>> createExceptionHandlerMethod(Method method, Class<? extends Exception> exceptionClass);
+
+    /**
+     * Returns the sender of a command source. The sender is passed to {@link ContainerProvider}s and recorded in
+     * {@link CommandExecutionEvent}s.
+     *
+     * @param source A command source.
+     * @return Sender of the source.
+     */
+    protected abstract Object getSender(S source);
+
+    /**
+     * Returns the name of the sender of a command source, used in slow command reports.
+     *
+     * @param source A command source.
+     * @return Name of the sender.
+     */
+    protected abstract String getSenderName(S source);
+
+    /**
+     * Checks whether the sender of a command source has the given permission.
+     *
+     * @param source     A command source.
+     * @param permission A permission that isn't empty.
+     * @return Whether the sender has the permission.
+     */
+    protected abstract boolean hasPermission(S source, String permission);
+
+    /**
+     * Runs a task on the thread commands are executed on. Used to finish handler methods that return a
+     * {@link CompletionStage}.
+     *
+     * @param task A task.
+     */
+    protected abstract void runSync(Runnable task);
+
+    /**
+     * Sends an error message to the sender of a command source. Used when a handler method fails after the command
+     * has returned.
+     *
+     * @param source  A command source.
+     * @param message Message of the error.
+     */
+    protected abstract void sendError(S source, String message);
+
+    /**
+     * Sends a line of the diagnostics command to the sender of a command source, styled the way the platform shows
+     * {@link DiagnosticLine.Style}s and {@link DiagnosticLine#hover()} texts.
+     *
+     * @param source A command source.
+     * @param line   The line to send.
+     */
+    protected abstract void sendDiagnostic(S source, DiagnosticLine line);
+
+    /**
+     * Checks whether a container must be instantiated for startup to succeed. Containers that aren't required and
+     * can't be instantiated get no instance, so only their static methods can be used, and
+     * {@link #getContainerInstance(Class)} returns {@code null} for them. Every container is required by default.
+     *
+     * @param clazz A container class.
+     * @return Whether startup fails if {@code clazz} can't be instantiated.
+     */
+    protected boolean isContainerRequired(Class<?> clazz) {
+        return true;
+    }
+
+    /**
+     * Checks whether a parameter of a command handler method is the sender. Only one parameter of a method is allowed
+     * to be the sender. By default, every parameter that isn't annotated with {@link CommandArgument} is a sender.
+     *
+     * @param parameter A parameter of a handler method.
+     * @return Whether the parameter is the sender.
+     */
+    protected boolean isSenderParameter(Parameter parameter) {
+        return !parameter.isAnnotationPresent(CommandArgument.class);
+    }
+
+    /**
+     * Classifies a sender into the kinds of senders that can be blocked with {@link BlockConsole},
+     * {@link BlockCommandBlock} and {@link BlockPlayer}. Called at most once every time the requirement of a command
+     * that blocks one of those kinds is tested. Returns {@code 0} by default, since there are no such kinds without
+     * a platform.
+     *
+     * @param sender Sender returned from {@link #getSender(Object)}.
+     * @return {@link CompiledCommand#BLOCKS_CONSOLE}, {@link CompiledCommand#BLOCKS_COMMAND_BLOCK} or
+     * {@link CompiledCommand#BLOCKS_PLAYER} if the sender is of that kind, {@code 0} otherwise.
+     */
+    protected int classifySender(Object sender) {
+        return 0;
+    }
+
+    /**
+     * Compiles the sender rules of a command into a single predicate, specialized to the rules the command has: the
+     * kind flags tested against {@link #classifySender(Object)}, and either {@link OnlyAllowSender} or
+     * {@link BlockSenderTypes}.
+     *
+     * @param command A compiled command.
+     * @return Predicate testing senders returned from {@link #getSender(Object)}, or {@code null} if the command
+     * allows every sender.
+     */
+    protected Predicate<Object> compileSenderRule(CompiledCommand<S, M> command) {
+        int flags = command.senderFlags();
+        Class<?> included = command.includedSender();
+        long blocked = command.blockedSenders();
+        SenderTypeIndex types = command.senderTypes();
+
+        if (included != null) return flags == 0
+                ? sender -> sender != null && sender.getClass() == included
+                : sender -> sender != null && sender.getClass() == included && (classifySender(sender) & flags) == 0;
+        if (blocked != 0) return flags == 0
+                ? sender -> (types.maskOf(sender) & blocked) == 0
+                : sender -> (types.maskOf(sender) & blocked) == 0 && (classifySender(sender) & flags) == 0;
+        return flags == 0 ? null : sender -> (classifySender(sender) & flags) == 0;
+    }
+
+    /**
+     * Returns the requirement of the root literals of a command. By default, the sender must have the permission of
+     * the command and pass the rule returned from {@link #compileSenderRule(CompiledCommand)}, getting the sender out
+     * of the source only once and only if the command has sender rules.
+     *
+     * @param command A compiled command.
+     * @return Requirement of the command.
+     */
+    protected Predicate<S> getRequirement(CompiledCommand<S, M> command) {
+        String permission = command.permission();
+        Predicate<Object> rule = compileSenderRule(command);
+        if (rule == null) return permission == null ? source -> true : source -> hasPermission(source, permission);
+        if (permission == null) return source -> rule.test(getSender(source));
+        return source -> hasPermission(source, permission) && rule.test(getSender(source));
+    }
+
+    /**
+     * Called before resolving arguments of a command, throwing an exception if the sender is blocked from using it.
+     * Does nothing by default.
+     *
+     * @param command A compiled command.
+     * @param source  Source of the command.
+     * @throws CommandSyntaxException If the sender is blocked.
+     */
+    protected void checkSender(CompiledCommand<S, M> command, S source) throws CommandSyntaxException {
+    }
+
+    /**
+     * Creates the exception thrown when a resolver or a handler method fails with the given message.
+     *
+     * @param message Message of the exception.
+     * @return A new exception.
+     */
+    protected CommandSyntaxException syntaxException(String message) {
+        return GENERIC.create(message);
+    }
+
+    /**
+     * Returns the list of handler method argument resolvers. Resolvers can be added to this list until
+     * {@link #scanCommands(ContainerIndex)} is called.
+     *
+     * @return Handler method argument resolvers.
+     */
+    public List<H> getHandlerResolvers() {
+        return handlerResolvers;
+    }
+
+    /**
+     * Returns the list of command argument resolvers. Resolvers can be added to this list until
+     * {@link #scanCommands(ContainerIndex)} is called.
+     *
+     * @return Command argument resolvers.
+     */
+    public List<C> getCommandResolvers() {
+        return commandResolvers;
+    }
+
+    /**
+     * Returns exceptions of the handler method argument resolvers.
+     *
+     * @return Handler method argument resolver exceptions.
+     */
+    public ExceptionMap<H> getHandlerResolverExceptions() {
+        return handlerResolverExceptions;
+    }
+
+    /**
+     * Returns exceptions of the command argument resolvers.
+     *
+     * @return Command argument resolver exceptions.
+     */
+    public ExceptionMap<C> getCommandResolverExceptions() {
+        return commandResolverExceptions;
+    }
+
+    /**
+     * Returns every command handler method found.
+     *
+     * @return An unmodifiable list of handler methods.
+     */
+    public List<M> getHandlers() {
+        return Collections.unmodifiableList(handlers);
+    }
+
+    /**
+     * Returns every command compiled by {@link #scanCommands(ContainerIndex)}.
+     *
+     * @return An unmodifiable list of compiled commands.
+     */
+    public List<CompiledCommand<S, M>> getCommands() {
+        return Collections.unmodifiableList(commands);
+    }
+
+    /**
+     * Returns the command tree of every command handler method, built by {@link #buildCommands()}.
+     *
+     * @return An unmodifiable list of root nodes.
+     */
+    public List<LiteralArgumentBuilder<S>> getNodes() {
+        return Collections.unmodifiableList(nodes);
+    }
+
+    /**
+     * Returns the provider of every container.
+     *
+     * @return An unmodifiable map of container providers.
+     */
+    public Map<Class<?>, ContainerProvider> getContainerProviders() {
+        return Collections.unmodifiableMap(containerProviders);
+    }
+
+    /**
+     * Returns the index used to find containers.
+     *
+     * @return The class index, or {@code null} if {@link #index(ClassIndex, Collection, Class, Class, boolean)} wasn't
+     * called yet.
+     */
+    public ClassIndex getClassIndex() {
+        return classIndex;
+    }
+
+    /**
+     * Returns metrics of every command of this engine.
+     *
+     * @return Metrics of this engine.
+     */
+    public ArnMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Returns the watchdog of this engine.
+     *
+     * @return Watchdog of this engine.
+     */
+    public SlowCommandWatchdog getWatchdog() {
+        return watchdog;
+    }
+
+    /**
+     * Returns the executor that runs handler methods annotated with {@link Async}.
+     *
+     * @return The executor.
+     */
+    public Executor getAsyncExecutor() {
+        return asyncExecutor;
+    }
+
+    /**
+     * Changes the executor that runs handler methods annotated with {@link Async}.
+     *
+     * @param asyncExecutor New executor.
+     */
+    public void setAsyncExecutor(Executor asyncExecutor) {
+        this.asyncExecutor = Objects.requireNonNull(asyncExecutor, "asyncExecutor");
+    }
+
+}
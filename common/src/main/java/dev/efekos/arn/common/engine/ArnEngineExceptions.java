@@ -0,0 +1,134 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.arn.common.engine;
+
+import dev.efekos.arn.common.CommandAnnotationLiteral;
+import dev.efekos.arn.common.annotation.Command;
+import dev.efekos.arn.common.base.BaseCmdResolver;
+import dev.efekos.arn.common.base.BaseCommandHandlerMethod;
+import dev.efekos.arn.common.base.BaseHndResolver;
+import dev.efekos.arn.common.exception.ArnCommandException;
+import dev.efekos.arn.common.exception.ArnContainerException;
+import dev.efekos.arn.common.exception.Dynamic2ArnExceptionType;
+import dev.efekos.arn.common.exception.Dynamic3ArnExceptionType;
+import dev.efekos.arn.common.exception.DynamicArnExceptionType;
+import dev.efekos.arn.common.exception.SimpleArnExceptionType;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+
+/**
+ * Utility class containing every exception type thrown by {@link ArnEngine}.
+ *
+ * @author efekos
+ * @since 0.4
+ */
+public final class ArnEngineExceptions {
+
+    /**
+     * Thrown when a container can't be instantiated.
+     */
+    public static final Dynamic2ArnExceptionType<ArnContainerException, Class<?>, Exception> CONTAINER_INSTANTIATE = new Dynamic2ArnExceptionType<>(
+            (o, o2) -> new ArnContainerException("There was an error while trying to instantiate " + o + ".", o2));
+
+    /**
+     * Thrown when a method annotated with {@link Command} doesn't return {@code int} or a
+     * {@link java.util.concurrent.CompletionStage} of {@link Integer}.
+     */
+    public static final Dynamic2ArnExceptionType<ArnCommandException, Method, Command> HM_NOT_INT = new Dynamic2ArnExceptionType<>(
+            (o, o2) -> new ArnCommandException("Handler method '" + o.getName() + "' for command '" + o2.value()
+                    + "' does not return 'int' or 'CompletionStage<Integer>'"));
+
+    /**
+     * Thrown when a method annotated with {@link Command} throws something else than
+     * {@link com.mojang.brigadier.exceptions.CommandSyntaxException} or
+     * {@link dev.efekos.arn.common.exception.ArnSyntaxException}.
+     */
+    public static final Dynamic3ArnExceptionType<ArnCommandException, Method, Command, Class<?>> HM_THROWS = new Dynamic3ArnExceptionType<>(
+            (o, o2, o3) -> new ArnCommandException("Handler methods are only allowed to throw "
+                    + "com.mojang.brigadier.exceptions.CommandSyntaxException or "
+                    + "dev.efekos.arn.common.exception.ArnSyntaxException, '" + o.getName() + "' for command '"
+                    + o2.value() + "' throws " + o3.getName() + "."));
+
+    /**
+     * Thrown when a method annotated with {@link Command} has more than one parameter that will be treated as the
+     * sender.
+     */
+    public static final Dynamic2ArnExceptionType<ArnCommandException, Method, Command> HM_MULTIPLE_SENDERS = new Dynamic2ArnExceptionType<>(
+            (o, o2) -> new ArnCommandException("Handler method '" + o.getName() + "' for command '" + o2.value()
+                    + "' must contain maximum one parameter that is a CommandSender."));
+
+    /**
+     * Thrown when a method annotated with {@link Command} has a parameter that can't be linked with any
+     * {@link BaseHndResolver} or {@link BaseCmdResolver}.
+     */
+    public static final Dynamic3ArnExceptionType<ArnCommandException, Method, Command, Parameter> HM_NOT_APPLICABLE = new Dynamic3ArnExceptionType<>(
+            (o, o2, o3) -> new ArnCommandException("Handler method '" + o.getName() + "' for command '" + o2.value()
+                    + "' has a parameter '" + o3.getName() + "' that isn't applicable for anything."));
+
+    /**
+     * Thrown when two command handler methods have the same signature.
+     */
+    public static final DynamicArnExceptionType<ArnCommandException, BaseCommandHandlerMethod<?, ?>> HM_DUPLICATE = new DynamicArnExceptionType<>(
+            o -> new ArnCommandException("Duplicate command '" + o.getSignature() + "'"));
+
+    /**
+     * Thrown when the command handler methods of an engine block more sender types with
+     * {@link dev.efekos.arn.common.annotation.BlockSenderTypes} than a {@link SenderTypeIndex} can hold.
+     */
+    public static final Dynamic2ArnExceptionType<ArnCommandException, Method, Command> HM_SENDER_TYPES = new Dynamic2ArnExceptionType<>(
+            (o, o2) -> new ArnCommandException("Handler method '" + o.getName() + "' for command '" + o2.value()
+                    + "' blocks a sender type, but more than " + SenderTypeIndex.MAX_TYPES + " sender types are blocked in total."));
+
+    /**
+     * Thrown when a literal of a command has a negative offset.
+     */
+    public static final DynamicArnExceptionType<ArnCommandException, Command> LITERAL_NEG_OFFSET = new DynamicArnExceptionType<>(
+            o -> new ArnCommandException("Command '" + o.value() + "' has a literal with a negative offset value."));
+
+    /**
+     * Thrown when a literal of a command has characters other than lower-case letters.
+     */
+    public static final Dynamic2ArnExceptionType<ArnCommandException, CommandAnnotationLiteral, Command> LITERAL_ILLEGAL = new Dynamic2ArnExceptionType<>(
+            (o, o2) -> new ArnCommandException("Literal '" + o.getLiteral() + "' of command '" + o2.value()
+                    + "' has an illegal character."));
+
+    /**
+     * Thrown when building the command tree of a command handler method fails.
+     */
+    public static final Dynamic2ArnExceptionType<ArnCommandException, BaseCommandHandlerMethod<?, ?>, Throwable> COMMAND_REGISTER_ERROR = new Dynamic2ArnExceptionType<>(
+            (o, o2) -> new ArnCommandException("Something went wrong with registering command '" + o.getCommand()
+                    + "'. This might be an error related to Arn, please create an issue on GitHub: https://github.com/efekos/Arn/issues", o2));
+
+    /**
+     * Printed when a handler method can't be accessed.
+     */
+    public static final SimpleArnExceptionType<ArnCommandException> COMMAND_NO_ACCESS = new SimpleArnExceptionType<>(
+            () -> new ArnCommandException("IllegalAccessException. This might be an error related to Arn, please create an issue on GitHub: https://github.com/efekos/Arn/issues"));
+
+    private ArnEngineExceptions() {
+    }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.arn.common.engine;
+
+import com.mojang.brigadier.builder.ArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import dev.efekos.arn.common.base.BaseCmdResolver;
+import dev.efekos.arn.common.base.BaseCommandHandlerMethod;
+import dev.efekos.arn.common.base.BaseHndResolver;
+import dev.efekos.arn.common.invoke.ArgumentBindingPlan;
+
+/**
+ * A {@link BaseCommandHandlerMethod} that is registered to a Brigadier dispatcher by an {@link ArnEngine}.
+ *
+ * @param <S> Type of the command source.
+ * @param <M> Type of the command handler method itself.
+ * @param <C> Type of the command argument resolvers.
+ * @param <H> Type of the handler method argument resolvers.
+ * @author efekos
+ * @since 0.4
+ */
+public abstract class BrigadierCommandHandlerMethod<S, M extends BrigadierCommandHandlerMethod<S, M, C, H>,
+        C extends BaseCmdResolver<ArgumentBuilder<S, ?>>, H extends BaseHndResolver<CommandContext<S>, M>>
+        extends BaseCommandHandlerMethod<C, H> {
+
+    /**
+     * Compiled plan used to resolve the arguments of this method.
+     */
+    private ArgumentBindingPlan<CommandContext<S>, M> bindingPlan;
+
+    /**
+     * Returns {@link #bindingPlan}.
+     *
+     * @return {@link #bindingPlan}.
+     */
+    public ArgumentBindingPlan<CommandContext<S>, M> getBindingPlan() {
+        return bindingPlan;
+    }
+
+    /**
+     * Changes {@link #bindingPlan}.
+     *
+     * @param bindingPlan New value.
+     */
+    public void setBindingPlan(ArgumentBindingPlan<CommandContext<S>, M> bindingPlan) {
+        this.bindingPlan = bindingPlan;
+    }
+
+}
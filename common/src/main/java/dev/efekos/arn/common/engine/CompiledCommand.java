@@ -0,0 +1,199 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.arn.common.engine;
+
+import com.mojang.brigadier.builder.ArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import dev.efekos.arn.common.CommandAnnotationLiteral;
+import dev.efekos.arn.common.annotation.Async;
+import dev.efekos.arn.common.annotation.BlockCommandBlock;
+import dev.efekos.arn.common.annotation.BlockConsole;
+import dev.efekos.arn.common.annotation.BlockPlayer;
+import dev.efekos.arn.common.annotation.BlockSenderTypes;
+import dev.efekos.arn.common.annotation.OnlyAllowSender;
+import dev.efekos.arn.common.annotation.Timeout;
+import dev.efekos.arn.common.base.BaseCmdResolver;
+import dev.efekos.arn.common.container.ContainerProvider;
+import dev.efekos.arn.common.invoke.ArgumentBindingPlan;
+import dev.efekos.arn.common.invoke.MethodInvoker;
+import dev.efekos.arn.common.metrics.CommandMetrics;
+
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Frozen form of a command handler method, created by {@link ArnEngine} once the method is scanned. Handler methods
+ * are mutable beans that are filled while scanning, while everything building and executing the command needs is
+ * copied to this record once, into arrays that aren't shared with the handler method. Checking a sender is a few
+ * comparisons against flags and masks instead of calls through lists. Arrays returned from the accessors of this
+ * record must not be modified.
+ * <p>
+ * Two compiled commands are equal if their signatures are, as signatures are unique within an engine.
+ *
+ * @param signature      Interned signature of the command.
+ * @param permission     Interned permission of the command, or {@code null} if it doesn't need one.
+ * @param literals       Literals of the command.
+ * @param arguments      Parameters of the handler method that are command arguments, in order.
+ * @param resolvers      Command argument resolvers of {@code arguments}, in the same order.
+ * @param invoker        Invoker of the handler method.
+ * @param plan           Binding plan of the handler method.
+ * @param owner          Class the handler method is declared in.
+ * @param provider       Container provider of {@code owner}.
+ * @param async          Whether the handler method is annotated with {@link Async}.
+ * @param timeout        {@link Timeout} of the handler method, or {@code null}.
+ * @param metrics        Metrics of the command.
+ * @param senderFlags    {@link #BLOCKS_CONSOLE}, {@link #BLOCKS_COMMAND_BLOCK} and {@link #BLOCKS_PLAYER} flags of the
+ *                       command.
+ * @param includedSender Only sender type allowed by {@link OnlyAllowSender}, or {@code null}.
+ * @param blockedSenders Mask of the sender types blocked by {@link BlockSenderTypes} in {@code senderTypes}.
+ * @param senderTypes    Index {@code blockedSenders} was created with.
+ * @param <S>            Type of the command source.
+ * @param <M>            Type of the handler method.
+ * @author efekos
+ * @since 0.4
+ */
+public record CompiledCommand<S, M extends BrigadierCommandHandlerMethod<S, M, ?, ?>>(
+        String signature, String permission, CommandAnnotationLiteral[] literals, Parameter[] arguments,
+        BaseCmdResolver<ArgumentBuilder<S, ?>>[] resolvers, MethodInvoker invoker,
+        ArgumentBindingPlan<CommandContext<S>, M> plan, Class<?> owner, ContainerProvider provider, boolean async,
+        Timeout timeout, CommandMetrics metrics, int senderFlags, Class<?> includedSender, long blockedSenders,
+        SenderTypeIndex senderTypes) {
+
+    /**
+     * Flag of commands annotated with {@link BlockConsole}.
+     */
+    public static final int BLOCKS_CONSOLE = 1;
+
+    /**
+     * Flag of commands annotated with {@link BlockCommandBlock}.
+     */
+    public static final int BLOCKS_COMMAND_BLOCK = 1 << 1;
+
+    /**
+     * Flag of commands annotated with {@link BlockPlayer}.
+     */
+    public static final int BLOCKS_PLAYER = 1 << 2;
+
+    /**
+     * Compiles a handler method. The handler method must already have every property set by
+     * {@link ArnEngine#scanCommands(dev.efekos.arn.common.index.ContainerIndex)}.
+     *
+     * @param method      A handler method.
+     * @param provider    Container provider of the class the method is declared in.
+     * @param metrics     Metrics of the command.
+     * @param senderTypes Index to register the blocked sender types of the method to.
+     * @param <S>         Type of the command source.
+     * @param <M>         Type of the handler method.
+     * @return A new compiled command.
+     * @throws IllegalStateException If {@code senderTypes} can't hold the blocked sender types of the method.
+     */
+    @SuppressWarnings("unchecked")
+    public static <S, M extends BrigadierCommandHandlerMethod<S, M, ?, ?>> CompiledCommand<S, M> of(
+            M method, ContainerProvider provider, CommandMetrics metrics, SenderTypeIndex senderTypes) {
+        String signature = method.getSignature().intern();
+        List<Parameter> arguments = new ArrayList<>();
+        List<BaseCmdResolver<?>> resolvers = new ArrayList<>();
+        for (int i = 0; i < method.getArgumentResolvers().size(); i++) {
+            BaseCmdResolver<?> resolver = method.getArgumentResolvers().get(i);
+            if (resolver == null) continue;
+            arguments.add(method.getParameters().get(i));
+            resolvers.add(resolver);
+        }
+
+        String permission = method.getAnnotationData().getPermission();
+        int flags = (method.isBlocksConsole() ? BLOCKS_CONSOLE : 0)
+                | (method.isBlocksCommandBlock() ? BLOCKS_COMMAND_BLOCK : 0)
+                | (method.isBlocksPlayer() ? BLOCKS_PLAYER : 0);
+        BlockSenderTypes blockSenderTypes = method.getIncludedSender() == null
+                ? ArnEngine.getApplied(method.getMethod(), BlockSenderTypes.class) : null;
+        long blocked = blockSenderTypes == null ? 0L : senderTypes.register(blockSenderTypes.value());
+
+        return new CompiledCommand<>(signature, permission.isEmpty() ? null : permission.intern(),
+                method.getAnnotationData().getLiterals().toArray(new CommandAnnotationLiteral[0]),
+                arguments.toArray(new Parameter[0]),
+                (BaseCmdResolver<ArgumentBuilder<S, ?>>[]) resolvers.toArray(new BaseCmdResolver<?>[0]),
+                method.getInvoker(), method.getBindingPlan(), method.getMethod().getDeclaringClass(), provider,
+                method.getMethod().isAnnotationPresent(Async.class), method.getMethod().getAnnotation(Timeout.class),
+                metrics, flags, method.getIncludedSender(), blocked, senderTypes);
+    }
+
+    /**
+     * Returns whether the command needs a permission.
+     *
+     * @return Whether {@link #permission()} isn't {@code null}.
+     */
+    public boolean hasPermission() {
+        return permission != null;
+    }
+
+    /**
+     * Returns whether the given flag is set.
+     *
+     * @param flag One of {@link #BLOCKS_CONSOLE}, {@link #BLOCKS_COMMAND_BLOCK} or {@link #BLOCKS_PLAYER}.
+     * @return Whether the command has the flag.
+     */
+    public boolean blocks(int flag) {
+        return (senderFlags & flag) != 0;
+    }
+
+    /**
+     * Checks whether the sender is the type allowed by {@link OnlyAllowSender}.
+     *
+     * @param sender A sender, or {@code null}.
+     * @return Whether the sender is included, always {@code true} if the command has no included sender.
+     */
+    public boolean includesSender(Object sender) {
+        return includedSender == null || sender != null && sender.getClass() == includedSender;
+    }
+
+    /**
+     * Checks whether the type of the sender is blocked by {@link BlockSenderTypes}.
+     *
+     * @param sender A sender, or {@code null}.
+     * @return Whether the sender is blocked.
+     */
+    public boolean doesBlockSender(Object sender) {
+        return blockedSenders != 0 && (senderTypes.maskOf(sender) & blockedSenders) != 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CompiledCommand<?, ?> that)) return false;
+        return signature.equals(that.signature);
+    }
+
+    @Override
+    public int hashCode() {
+        return signature.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledCommand{" + signature + '}';
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.arn.common.engine;
+
+import dev.efekos.arn.common.annotation.BlockSenderTypes;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Assigns a bit to every sender type blocked by {@link BlockSenderTypes}, so a {@link CompiledCommand} can check its
+ * sender with a single mask instead of scanning a list of classes. Like the annotation, types are matched exactly, a
+ * subclass of a registered type doesn't share its bit. Types must be registered before any sender is looked up,
+ * which {@link ArnEngine} does while scanning commands.
+ *
+ * @author efekos
+ * @since 0.4
+ */
+public final class SenderTypeIndex {
+
+    /**
+     * Maximum amount of sender types an index can hold.
+     */
+    public static final int MAX_TYPES = Long.SIZE;
+
+    private final Map<Class<?>, Integer> bits = new HashMap<>();
+    private final ClassValue<Long> masks = new ClassValue<>() {
+        @Override
+        protected Long computeValue(Class<?> type) {
+            Integer bit = bits.get(type);
+            return bit == null ? 0L : 1L << bit;
+        }
+    };
+
+    /**
+     * Registers the given sender types, assigning a new bit to every type that doesn't have one yet.
+     *
+     * @param types Sender types.
+     * @return Mask of the given types.
+     * @throws IllegalStateException If the index can't hold any more types.
+     */
+    public long register(Class<?>... types) {
+        long mask = 0;
+        for (Class<?> type : types) {
+            Integer bit = bits.get(type);
+            if (bit == null) {
+                if (bits.size() == MAX_TYPES)
+                    throw new IllegalStateException("Can't have more than " + MAX_TYPES + " blocked sender types");
+                bit = bits.size();
+                bits.put(type, bit);
+            }
+            mask |= 1L << bit;
+        }
+        return mask;
+    }
+
+    /**
+     * Returns the mask of the runtime class of a sender.
+     *
+     * @param sender A sender, or {@code null}.
+     * @return Bit of the class of the sender, or {@code 0} if it's {@code null} or its class isn't registered.
+     */
+    public long maskOf(Object sender) {
+        return sender == null ? 0L : masks.get(sender.getClass());
+    }
+
+    /**
+     * Returns the amount of registered sender types.
+     *
+     * @return Amount of registered types.
+     */
+    public int size() {
+        return bits.size();
+    }
+
+}
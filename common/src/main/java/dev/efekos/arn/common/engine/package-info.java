@@ -0,0 +1,6 @@
+/**
+ * A platform-neutral engine that validates command handler methods, builds Brigadier command trees for them and
+ * executes them against any command source type. Platforms adapt {@link dev.efekos.arn.common.engine.ArnEngine} to
+ * their own command sources and senders.
+ */
+package dev.efekos.arn.common.engine;
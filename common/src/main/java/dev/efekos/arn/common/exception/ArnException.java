@@ -24,9 +24,7 @@
 
 package dev.efekos.arn.common.exception;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
 
 /**
  * Base exception type thrown by Arn.
@@ -41,9 +39,7 @@ public class ArnException extends Exception {
      * Creates a new exception.
      */
     public ArnException() {
-        List<StackTraceElement> list = new ArrayList<>(Arrays.asList(this.getStackTrace()));
-        for (int i = 0; i < 3; i++) list.remove(list.size() - 1);
-        setStackTrace(list.toArray(new StackTraceElement[0]));
+        trimStackTrace();
     }
 
     /**
@@ -53,9 +49,7 @@ public class ArnException extends Exception {
      */
     public ArnException(String message) {
         super(message);
-        List<StackTraceElement> list = new ArrayList<>(Arrays.asList(this.getStackTrace()));
-        for (int i = 0; i < 3; i++) list.remove(list.size() - 1);
-        setStackTrace(list.toArray(new StackTraceElement[0]));
+        trimStackTrace();
     }
 
     /**
@@ -66,9 +60,7 @@ public class ArnException extends Exception {
      */
     public ArnException(String message, Throwable cause) {
         super(message, cause);
-        List<StackTraceElement> list = new ArrayList<>(Arrays.asList(this.getStackTrace()));
-        for (int i = 0; i < 3; i++) list.remove(list.size() - 1);
-        setStackTrace(list.toArray(new StackTraceElement[0]));
+        trimStackTrace();
     }
 
     /**
@@ -78,9 +70,7 @@ public class ArnException extends Exception {
      */
     public ArnException(Throwable cause) {
         super(cause);
-        List<StackTraceElement> list = new ArrayList<>(Arrays.asList(this.getStackTrace()));
-        for (int i = 0; i < 3; i++) list.remove(list.size() - 1);
-        setStackTrace(list.toArray(new StackTraceElement[0]));
+        trimStackTrace();
     }
 
     /**
@@ -93,9 +83,17 @@ public class ArnException extends Exception {
      */
     public ArnException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
         super(message, cause, enableSuppression, writableStackTrace);
-        List<StackTraceElement> list = new ArrayList<>(Arrays.asList(this.getStackTrace()));
-        for (int i = 0; i < 3; i++) list.remove(list.size() - 1);
-        setStackTrace(list.toArray(new StackTraceElement[0]));
+        trimStackTrace();
+    }
+
+    /**
+     * Removes the last three elements of the stack trace, which are always the same. Does nothing when the stack trace
+     * isn't writable, so exceptions created without a stack trace stay cheap to create.
+     */
+    private void trimStackTrace() {
+        StackTraceElement[] stackTrace = getStackTrace();
+        if (stackTrace.length <= 3) return;
+        setStackTrace(Arrays.copyOf(stackTrace, stackTrace.length - 3));
     }
 
 }
@@ -33,6 +33,11 @@ import dev.efekos.arn.common.base.BaseCustomArgumentType;
  * use Arn. Methods annotated with {@link Command} and {@link BaseCustomArgumentType} can
  * throw this exception with a message that will pop up to the player with red color by default.
  *
+ * <p>
+ * Syntax exceptions are caused by invalid input rather than a bug, so they don't have a stack trace and can't have
+ * suppressed exceptions. This makes them cheap to create, and safe to create once and throw many times. Use
+ * {@link SimpleArnExceptionType#syntax(String)} for errors that always have the same message.
+ *
  * @author efekos
  * @since 0.3
  */
@@ -44,7 +49,18 @@ public class ArnSyntaxException extends ArnException {
      * @param message Exception message.
      */
     public ArnSyntaxException(String message) {
-        super(message);
+        super(message, null, false, false);
+    }
+
+    /**
+     * Creates a new exception.
+     *
+     * @param message Exception message.
+     * @param cause   Exception cause.
+     * @since 0.4
+     */
+    public ArnSyntaxException(String message, Throwable cause) {
+        super(message, cause, false, false);
     }
 
 }
\ No newline at end of file
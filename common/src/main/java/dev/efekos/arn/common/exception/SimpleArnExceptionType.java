@@ -49,6 +49,19 @@ public final class SimpleArnExceptionType<E extends ArnException> {
         this.lambda = lambda;
     }
 
+    /**
+     * Creates a new exception type that throws the same {@link ArnSyntaxException} every time. Since syntax exceptions
+     * don't have a stack trace, nothing is created when an exception of this type is thrown.
+     *
+     * @param message Message of the exception.
+     * @return A new exception type.
+     * @since 0.4
+     */
+    public static SimpleArnExceptionType<ArnSyntaxException> syntax(String message) {
+        ArnSyntaxException exception = new ArnSyntaxException(message);
+        return new SimpleArnExceptionType<>(() -> exception);
+    }
+
     /**
      * Creates an exception using {@link #lambda}.
      *
@@ -0,0 +1,98 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.arn.common.index;
+
+import dev.efekos.arn.common.annotation.Container;
+import dev.efekos.arn.common.invoke.MethodInvoker;
+import org.reflections.Reflections;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+
+/**
+ * Provides the types Arn scans while running. Use {@link #of(Class)} to get an index for a project.
+ *
+ * @author efekos
+ * @since 0.4
+ */
+public interface ClassIndex {
+
+    /**
+     * Returns an index for the package of {@code mainClass}. If the project was compiled with {@code arn-processor},
+     * the generated {@link GeneratedArnIndex} is used and the classpath is never scanned. Otherwise, falls back to
+     * scanning the package with {@link Reflections}. A generated index that exists but can't be loaded, such as one
+     * that refers to a class that was removed, also falls back to scanning after logging a warning.
+     *
+     * @param mainClass Main class of the project.
+     * @return An index of the project.
+     */
+    static ClassIndex of(Class<?> mainClass) {
+        String packageName = mainClass.getPackageName();
+        String className = packageName.isEmpty() ? GeneratedArnIndex.SIMPLE_NAME : packageName + "." + GeneratedArnIndex.SIMPLE_NAME;
+        try {
+            Class<?> indexClass = Class.forName(className, true, mainClass.getClassLoader());
+            if (GeneratedArnIndex.class.isAssignableFrom(indexClass))
+                return new GeneratedClassIndex((GeneratedArnIndex) indexClass.getConstructor().newInstance());
+        } catch (ClassNotFoundException ignored) {
+        } catch (ReflectiveOperationException | LinkageError e) {
+            System.getLogger(ClassIndex.class.getName()).log(System.Logger.Level.WARNING, "Could not load " + className
+                    + ", scanning " + (packageName.isEmpty() ? "the unnamed package" : packageName) + " instead.", e);
+        }
+        return new ReflectionsClassIndex(new Reflections(packageName));
+    }
+
+    /**
+     * Returns every class annotated with {@link Container}.
+     *
+     * @return A set of container classes.
+     */
+    Set<Class<?>> getContainers();
+
+    /**
+     * Returns every class that is a subtype of the given type.
+     *
+     * @param type Type to look for subtypes of.
+     * @param <T>  Type to look for subtypes of.
+     * @return A set of subtypes of {@code type}.
+     */
+    <T> Set<Class<? extends T>> getSubTypesOf(Class<T> type);
+
+    /**
+     * Returns an invoker for the given handler method. Uses a generated invoker if there is one, otherwise compiles a
+     * new one.
+     *
+     * @param method A handler method.
+     * @return A {@link MethodInvoker} for {@code method}.
+     */
+    MethodInvoker getInvoker(Method method);
+
+    /**
+     * Returns whether this index was generated at compile time.
+     *
+     * @return {@code true} if the classpath isn't scanned by this index.
+     */
+    boolean isGenerated();
+
+}
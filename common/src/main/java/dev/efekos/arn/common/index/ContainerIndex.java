@@ -0,0 +1,178 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.arn.common.index;
+
+import dev.efekos.arn.common.annotation.Command;
+import dev.efekos.arn.common.annotation.Container;
+import dev.efekos.arn.common.annotation.CustomArgument;
+import dev.efekos.arn.common.annotation.ExceptionHandler;
+import dev.efekos.arn.common.annotation.Helper;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An immutable index of every {@link Container} of a project, grouped by their {@link ContainerRole}s. Created once
+ * with a single pass over the containers, so scanning phases of an Arn implementation don't need to look up
+ * containers or their methods again.
+ *
+ * @author efekos
+ * @since 0.4
+ */
+public final class ContainerIndex {
+
+    private final Set<Class<?>> containers;
+    private final Set<Class<?>> exclusions;
+    private final Map<ContainerRole, List<Class<?>>> roles;
+    private final List<Method> commandMethods;
+    private final List<Method> exceptionHandlerMethods;
+
+    private ContainerIndex(Set<Class<?>> containers, Set<Class<?>> exclusions, Map<ContainerRole, List<Class<?>>> roles,
+                           List<Method> commandMethods, List<Method> exceptionHandlerMethods) {
+        this.containers = containers;
+        this.exclusions = exclusions;
+        this.roles = roles;
+        this.commandMethods = commandMethods;
+        this.exceptionHandlerMethods = exceptionHandlerMethods;
+    }
+
+    /**
+     * Creates a new index.
+     *
+     * @param classIndex         Index to get containers from.
+     * @param exclusions         Classes excluded using {@link dev.efekos.arn.common.base.ArnInstance#excludeClass(Class)}.
+     * @param configurerType     Configurer type of the Arn implementation.
+     * @param customArgumentType Custom argument type of the Arn implementation.
+     * @param includeSubTypes    Whether configurers and custom argument types that aren't annotated with
+     *                           {@link Container} should be indexed too.
+     * @return A new index.
+     */
+    public static ContainerIndex create(ClassIndex classIndex, Collection<Class<?>> exclusions, Class<?> configurerType,
+                                        Class<?> customArgumentType, boolean includeSubTypes) {
+        Set<Class<?>> excluded = Collections.unmodifiableSet(new HashSet<>(exclusions));
+        Set<Class<?>> containers = new LinkedHashSet<>();
+        Map<ContainerRole, List<Class<?>>> roles = new EnumMap<>(ContainerRole.class);
+        for (ContainerRole role : ContainerRole.values()) roles.put(role, new ArrayList<>());
+        List<Method> commandMethods = new ArrayList<>();
+        List<Method> exceptionHandlerMethods = new ArrayList<>();
+
+        for (Class<?> clazz : classIndex.getContainers()) {
+            if (excluded.contains(clazz)) continue;
+            containers.add(clazz);
+
+            if (configurerType.isAssignableFrom(clazz)) roles.get(ContainerRole.CONFIGURER).add(clazz);
+            if (customArgumentType.isAssignableFrom(clazz)) roles.get(ContainerRole.CUSTOM_ARGUMENT).add(clazz);
+            if (clazz.isEnum() && clazz.isAnnotationPresent(CustomArgument.class))
+                roles.get(ContainerRole.ENUM_ARGUMENT).add(clazz);
+            if (clazz.isAnnotationPresent(Helper.class)) roles.get(ContainerRole.HELPER).add(clazz);
+
+            boolean holdsCommands = false;
+            for (Method method : clazz.getMethods())
+                if (method.isAnnotationPresent(Command.class)) {
+                    commandMethods.add(method);
+                    holdsCommands = true;
+                }
+            if (holdsCommands) roles.get(ContainerRole.COMMAND_HOLDER).add(clazz);
+
+            boolean handlesExceptions = false;
+            for (Method method : clazz.getDeclaredMethods())
+                if (method.isAnnotationPresent(ExceptionHandler.class)) {
+                    exceptionHandlerMethods.add(method);
+                    handlesExceptions = true;
+                }
+            if (handlesExceptions) roles.get(ContainerRole.EXCEPTION_HANDLER).add(clazz);
+        }
+
+        if (includeSubTypes) {
+            addSubTypes(classIndex, configurerType, excluded, roles.get(ContainerRole.CONFIGURER));
+            addSubTypes(classIndex, customArgumentType, excluded, roles.get(ContainerRole.CUSTOM_ARGUMENT));
+        }
+
+        roles.replaceAll((role, list) -> List.copyOf(list));
+        return new ContainerIndex(Collections.unmodifiableSet(containers), excluded, Collections.unmodifiableMap(roles),
+                List.copyOf(commandMethods), List.copyOf(exceptionHandlerMethods));
+    }
+
+    private static void addSubTypes(ClassIndex classIndex, Class<?> type, Set<Class<?>> excluded, List<Class<?>> list) {
+        for (Class<?> clazz : classIndex.getSubTypesOf(type))
+            if (!excluded.contains(clazz) && !list.contains(clazz)) list.add(clazz);
+    }
+
+    /**
+     * Returns every container that isn't excluded.
+     *
+     * @return A set of containers.
+     */
+    public Set<Class<?>> getContainers() {
+        return containers;
+    }
+
+    /**
+     * Returns every class that has the given role.
+     *
+     * @param role A role.
+     * @return A list of classes that have {@code role}.
+     */
+    public List<Class<?>> get(ContainerRole role) {
+        return roles.get(role);
+    }
+
+    /**
+     * Returns every public method annotated with {@link Command} in the indexed containers.
+     *
+     * @return A list of command handler methods.
+     */
+    public List<Method> getCommandMethods() {
+        return commandMethods;
+    }
+
+    /**
+     * Returns every method annotated with {@link ExceptionHandler} in the indexed containers.
+     *
+     * @return A list of exception handler methods.
+     */
+    public List<Method> getExceptionHandlerMethods() {
+        return exceptionHandlerMethods;
+    }
+
+    /**
+     * Returns whether the given class was excluded when this index was created.
+     *
+     * @param clazz A class.
+     * @return Whether {@code clazz} is excluded.
+     */
+    public boolean isExcluded(Class<?> clazz) {
+        return exclusions.contains(clazz);
+    }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.arn.common.index;
+
+import dev.efekos.arn.common.annotation.Command;
+import dev.efekos.arn.common.annotation.Container;
+import dev.efekos.arn.common.annotation.CustomArgument;
+import dev.efekos.arn.common.annotation.ExceptionHandler;
+import dev.efekos.arn.common.annotation.Helper;
+
+/**
+ * Roles a {@link Container} can have in a {@link ContainerIndex}. A container can have more than one role.
+ *
+ * @author efekos
+ * @since 0.4
+ */
+public enum ContainerRole {
+
+    /**
+     * The container is a configurer of the Arn implementation.
+     */
+    CONFIGURER,
+
+    /**
+     * The container is an enum annotated with {@link CustomArgument}.
+     */
+    ENUM_ARGUMENT,
+
+    /**
+     * The container is a custom argument type of the Arn implementation.
+     */
+    CUSTOM_ARGUMENT,
+
+    /**
+     * The container has at least one method annotated with {@link Command}.
+     */
+    COMMAND_HOLDER,
+
+    /**
+     * The container is annotated with {@link Helper}.
+     */
+    HELPER,
+
+    /**
+     * The container has at least one method annotated with {@link ExceptionHandler}.
+     */
+    EXCEPTION_HANDLER
+
+}
@@ -0,0 +1,74 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.arn.common.index;
+
+import dev.efekos.arn.common.annotation.Container;
+import dev.efekos.arn.common.base.BaseArnConfigurer;
+import dev.efekos.arn.common.base.BaseCustomArgumentType;
+import dev.efekos.arn.common.invoke.MethodInvoker;
+import dev.efekos.arn.common.invoke.MethodInvokers;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An index of a project generated by the {@code arn-processor} annotation processor at compile time. The generated
+ * class is named {@value #SIMPLE_NAME} and placed in the package of the main class, so {@link ClassIndex#of(Class)}
+ * can find it without scanning the classpath.
+ *
+ * @author efekos
+ * @since 0.4
+ */
+public interface GeneratedArnIndex {
+
+    /**
+     * Simple name of the generated index class.
+     */
+    String SIMPLE_NAME = "ArnGeneratedIndex";
+
+    /**
+     * Returns every class annotated with {@link Container}.
+     *
+     * @return A set of container classes.
+     */
+    Set<Class<?>> getContainers();
+
+    /**
+     * Returns every class that implements {@link BaseArnConfigurer} or {@link BaseCustomArgumentType}, including the
+     * ones that aren't containers.
+     *
+     * @return A set of extension classes.
+     */
+    Set<Class<?>> getExtensions();
+
+    /**
+     * Returns invokers generated for handler methods, keyed with {@link MethodInvokers#key(java.lang.reflect.Method)}.
+     * Methods that can't be invoked from the generated class are not present in this map.
+     *
+     * @return A map of generated invokers.
+     */
+    Map<String, MethodInvoker> getInvokers();
+
+}
@@ -0,0 +1,83 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.arn.common.index;
+
+import dev.efekos.arn.common.annotation.Container;
+import dev.efekos.arn.common.invoke.MethodInvoker;
+import dev.efekos.arn.common.invoke.MethodInvokers;
+import org.reflections.Reflections;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+
+/**
+ * A {@link ClassIndex} that scans the classpath using {@link Reflections}. Containers are only looked up once.
+ *
+ * @author efekos
+ * @since 0.4
+ */
+final class ReflectionsClassIndex implements ClassIndex {
+
+    private final Reflections reflections;
+    private Set<Class<?>> containers;
+
+    ReflectionsClassIndex(Reflections reflections) {
+        this.reflections = reflections;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Class<?>> getContainers() {
+        if (containers == null) containers = reflections.getTypesAnnotatedWith(Container.class);
+        return containers;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> Set<Class<? extends T>> getSubTypesOf(Class<T> type) {
+        return reflections.getSubTypesOf(type);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MethodInvoker getInvoker(Method method) {
+        return MethodInvokers.compile(method);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isGenerated() {
+        return false;
+    }
+
+}
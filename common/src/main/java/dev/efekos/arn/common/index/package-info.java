@@ -0,0 +1,5 @@
+/**
+ * Classes used to find the types Arn needs to scan, either from an index generated at compile time or by scanning the
+ * classpath.
+ */
+package dev.efekos.arn.common.index;
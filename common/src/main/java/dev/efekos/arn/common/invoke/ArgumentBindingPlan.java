@@ -0,0 +1,156 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.arn.common.invoke;
+
+import dev.efekos.arn.common.annotation.CommandArgument;
+import dev.efekos.arn.common.base.BaseCommandHandlerMethod;
+import dev.efekos.arn.common.base.BaseHndResolver;
+import dev.efekos.arn.common.exception.ArnSyntaxException;
+import dev.efekos.arn.common.metrics.Allocations;
+import dev.efekos.arn.common.metrics.ArnMetrics;
+import dev.efekos.arn.common.metrics.ResolverMetrics;
+
+import java.lang.reflect.Parameter;
+import java.util.List;
+
+/**
+ * A compiled plan of how the arguments of a {@link BaseCommandHandlerMethod} are resolved. Plans are created once
+ * while registering a command, pairing every parameter with its {@link BaseHndResolver} and the name of its argument,
+ * so executing the command does not need to look up annotations or copy lists.
+ *
+ * @param <Ctx>    Type of the command context.
+ * @param <Method> Type of the command handler method.
+ * @author efekos
+ * @since 0.4
+ */
+public final class ArgumentBindingPlan<Ctx, Method extends BaseCommandHandlerMethod<?, ?>> {
+
+    private final Step<Ctx, Method>[] steps;
+    private final ArnMetrics metrics;
+
+    private ArgumentBindingPlan(Step<Ctx, Method>[] steps, ArnMetrics metrics) {
+        this.steps = steps;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Compiles a new plan.
+     *
+     * @param resolvers  Resolvers of every parameter, in the same order as {@code parameters}.
+     * @param parameters Parameters of the command handler method.
+     * @param <Ctx>      Type of the command context.
+     * @param <Method>   Type of the command handler method.
+     * @return A new plan.
+     */
+    public static <Ctx, Method extends BaseCommandHandlerMethod<?, ?>> ArgumentBindingPlan<Ctx, Method> compile(
+            List<? extends BaseHndResolver<Ctx, Method>> resolvers, List<Parameter> parameters) {
+        return compile(resolvers, parameters, null, null);
+    }
+
+    /**
+     * Compiles a new plan that records calls to its resolvers in {@code metrics} while
+     * {@link ArnMetrics#isResolverTimingEnabled()} is {@code true}.
+     *
+     * @param resolvers  Resolvers of every parameter, in the same order as {@code parameters}.
+     * @param parameters Parameters of the command handler method.
+     * @param metrics    Metrics to record resolver calls in, or {@code null}.
+     * @param signature  Signature of the command handler method.
+     * @param <Ctx>      Type of the command context.
+     * @param <Method>   Type of the command handler method.
+     * @return A new plan.
+     */
+    public static <Ctx, Method extends BaseCommandHandlerMethod<?, ?>> ArgumentBindingPlan<Ctx, Method> compile(
+            List<? extends BaseHndResolver<Ctx, Method>> resolvers, List<Parameter> parameters, ArnMetrics metrics,
+            String signature) {
+        @SuppressWarnings("unchecked")
+        Step<Ctx, Method>[] steps = (Step<Ctx, Method>[]) new Step<?, ?>[parameters.size()];
+        for (int i = 0; i < steps.length; i++) {
+            BaseHndResolver<Ctx, Method> resolver = resolvers.get(i);
+            Parameter parameter = parameters.get(i);
+            String name = parameter.isAnnotationPresent(CommandArgument.class) ? resolver.getName(parameter) : null;
+            ResolverMetrics resolverMetrics = metrics == null ? null
+                    : metrics.forParameter(signature, i, parameter.getName(), resolver.getClass());
+            steps[i] = new Step<>(resolver, parameter, name, resolverMetrics);
+        }
+        return new ArgumentBindingPlan<>(steps, metrics);
+    }
+
+    /**
+     * Returns the amount of arguments this plan resolves.
+     *
+     * @return Parameter count of the command handler method.
+     */
+    public int getArity() {
+        return steps.length;
+    }
+
+    /**
+     * Resolves every argument of the command handler method.
+     *
+     * @param method  The command handler method this plan was compiled for.
+     * @param context Command context to get arguments from.
+     * @return An array of arguments that can be passed in to {@link MethodInvoker#invoke(Object, Object[])}.
+     * @throws ArnSyntaxException If a resolver throws it.
+     */
+    public Object[] bind(Method method, Ctx context) throws ArnSyntaxException {
+        if (metrics != null && metrics.isResolverTimingEnabled()) return bindTimed(method, context);
+        Object[] args = new Object[steps.length];
+        for (int i = 0; i < args.length; i++) {
+            Step<Ctx, Method> step = steps[i];
+            args[i] = step.resolver.resolve(step.parameter, step.name, method, context);
+        }
+        return args;
+    }
+
+    private Object[] bindTimed(Method method, Ctx context) throws ArnSyntaxException {
+        Object[] args = new Object[steps.length];
+        for (int i = 0; i < args.length; i++) {
+            Step<Ctx, Method> step = steps[i];
+            long allocated = Allocations.current();
+            long start = System.nanoTime();
+            try {
+                args[i] = step.resolver.resolve(step.parameter, step.name, method, context);
+            } finally {
+                long nanos = System.nanoTime() - start;
+                step.metrics.record(nanos, allocated < 0 ? -1 : Allocations.current() - allocated);
+            }
+        }
+        return args;
+    }
+
+    /**
+     * A parameter paired with its resolver and argument name.
+     *
+     * @param resolver  Resolver of the parameter.
+     * @param parameter The parameter.
+     * @param name      Name of the argument, or {@code null} if the parameter isn't a command argument.
+     * @param metrics   Metrics of the resolver of the parameter, or {@code null} if the plan has no metrics.
+     */
+    private record Step<Ctx, Method extends BaseCommandHandlerMethod<?, ?>>(BaseHndResolver<Ctx, Method> resolver,
+                                                                             Parameter parameter, String name,
+                                                                             ResolverMetrics metrics) {
+    }
+
+}
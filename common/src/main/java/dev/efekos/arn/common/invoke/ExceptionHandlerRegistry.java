@@ -0,0 +1,106 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.arn.common.invoke;
+
+import dev.efekos.arn.common.base.BaseExceptionHandlerMethod;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Finds the {@link BaseExceptionHandlerMethod} that should handle a thrown exception. The handler whose exception class
+ * is the closest superclass of the thrown exception is picked. Scoped handlers are only considered for commands of
+ * their own container, and are preferred over a global handler for the same exception class. Results are cached for
+ * every thrown exception class, so an exception handler is looked up only once for every type of exception.
+ *
+ * @param <H> Type of the exception handler methods.
+ * @author efekos
+ * @since 0.4
+ */
+public final class ExceptionHandlerRegistry<H extends BaseExceptionHandlerMethod<?>> {
+
+    private final Map<Class<?>, H> global = new HashMap<>();
+    private final Map<Class<?>, Map<Class<?>, H>> scopedByContainer = new HashMap<>();
+    private final ClassValue<Resolution<H>> cache = new ClassValue<>() {
+        @Override
+        protected Resolution<H> computeValue(Class<?> type) {
+            return resolve(type);
+        }
+    };
+
+    /**
+     * Creates a new registry. When there is more than one handler for the same exception class, the first one is used.
+     *
+     * @param handlers Every exception handler method.
+     */
+    public ExceptionHandlerRegistry(Collection<? extends H> handlers) {
+        for (H handler : handlers) {
+            if (handler.isScoped())
+                scopedByContainer.computeIfAbsent(handler.getMethod().getDeclaringClass(), k -> new HashMap<>())
+                        .putIfAbsent(handler.getExceptionClass(), handler);
+            else global.putIfAbsent(handler.getExceptionClass(), handler);
+        }
+    }
+
+    /**
+     * Walks the superclasses of {@code type}, returning the first handler found in {@code scoped} or
+     * {@code global}. {@code scoped} is checked first at every level, so it only wins over a handler that is as close.
+     */
+    private static <H> H closest(Class<?> type, Map<Class<?>, H> scoped, Map<Class<?>, H> global) {
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            H handler = scoped.get(c);
+            if (handler == null) handler = global.get(c);
+            if (handler != null) return handler;
+        }
+        return null;
+    }
+
+    /**
+     * Finds the exception handler method for the given exception type.
+     *
+     * @param type      Class of the thrown exception.
+     * @param container Class of the container the command that threw the exception is in, or {@code null}.
+     * @return An exception handler method, or {@code null} if there isn't one that can handle {@code type}.
+     */
+    public H find(Class<? extends Throwable> type, Class<?> container) {
+        Resolution<H> resolution = cache.get(type);
+        H handler = container == null ? null : resolution.scoped.get(container);
+        return handler != null ? handler : resolution.global;
+    }
+
+    private Resolution<H> resolve(Class<?> type) {
+        Map<Class<?>, H> scoped = new HashMap<>();
+        for (Map.Entry<Class<?>, Map<Class<?>, H>> entry : scopedByContainer.entrySet()) {
+            H handler = closest(type, entry.getValue(), global);
+            if (handler != null) scoped.put(entry.getKey(), handler);
+        }
+        return new Resolution<>(closest(type, Map.of(), global), Map.copyOf(scoped));
+    }
+
+    private record Resolution<H>(H global, Map<Class<?>, H> scoped) {
+    }
+
+}
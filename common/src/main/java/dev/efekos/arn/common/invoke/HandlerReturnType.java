@@ -0,0 +1,75 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.arn.common.invoke;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Represents return types a command handler method is allowed to have.
+ *
+ * @author efekos
+ * @since 0.4
+ */
+public enum HandlerReturnType {
+
+    /**
+     * The method returns {@code int}, which is passed to Brigadier as the result of the command.
+     */
+    INT,
+
+    /**
+     * The method returns a {@link CompletionStage} of {@link Integer}, such as a
+     * {@link java.util.concurrent.CompletableFuture}. The command is acknowledged right away, and exceptions the stage
+     * completes with are handled on the server thread once it completes.
+     */
+    COMPLETION_STAGE;
+
+    /**
+     * Finds the return type of the given method.
+     *
+     * @param method A command handler method.
+     * @return Return type of {@code method}, or {@code null} if it isn't allowed.
+     */
+    public static HandlerReturnType of(Method method) {
+        if (method.getReturnType().equals(int.class)) return INT;
+        if (!CompletionStage.class.isAssignableFrom(method.getReturnType())) return null;
+
+        Type generic = method.getGenericReturnType();
+        if (!(generic instanceof ParameterizedType parameterized) || parameterized.getActualTypeArguments().length != 1)
+            return COMPLETION_STAGE;
+        Type argument = parameterized.getActualTypeArguments()[0];
+        if (argument instanceof WildcardType wildcard) {
+            Type[] upperBounds = wildcard.getUpperBounds();
+            argument = upperBounds.length == 0 ? Object.class : upperBounds[0];
+            if (argument.equals(Object.class) || argument.equals(Number.class)) return COMPLETION_STAGE;
+        }
+        return argument.equals(Integer.class) ? COMPLETION_STAGE : null;
+    }
+
+}
@@ -0,0 +1,53 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.arn.common.invoke;
+
+import java.lang.reflect.Method;
+
+/**
+ * Represents a compiled way of invoking a {@link Method}. Implementations are created once using
+ * {@link MethodInvokers#compile(Method)} and reused every time the method needs to be invoked, so invoking a command
+ * handler method does not pay the cost of Java Reflection API.
+ *
+ * @author efekos
+ * @since 0.4
+ */
+@FunctionalInterface
+public interface MethodInvoker {
+
+    /**
+     * Invokes the method this invoker was compiled for. Unlike {@link Method#invoke(Object, Object...)}, anything the
+     * method throws is rethrown as is instead of being wrapped into an
+     * {@link java.lang.reflect.InvocationTargetException}.
+     *
+     * @param target Instance to invoke the method on. Ignored if the method is static.
+     * @param args   Arguments to pass in to the method. Length of the array must be same with the parameter count of
+     *               the method.
+     * @return What the method returned, boxed if it is a primitive. {@code null} if the method is {@code void}.
+     * @throws Throwable Anything the method throws.
+     */
+    Object invoke(Object target, Object[] args) throws Throwable;
+
+}
@@ -0,0 +1,111 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.arn.common.invoke;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Utility class used to create {@link MethodInvoker}s.
+ *
+ * @author efekos
+ * @since 0.4
+ */
+public final class MethodInvokers {
+
+    /**
+     * Type every compiled {@link MethodHandle} is adapted to, so it can be invoked with
+     * {@link MethodHandle#invokeExact(Object...)} no matter what the signature of the actual method is.
+     */
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    private MethodInvokers() {
+    }
+
+    /**
+     * Compiles the given method into a {@link MethodInvoker} that uses a {@link MethodHandle} to invoke it. If a
+     * {@link MethodHandle} can't be created for the method, falls back to {@link #reflective(Method)}.
+     *
+     * @param method Method to compile.
+     * @return A {@link MethodInvoker} for {@code method}.
+     */
+    public static MethodInvoker compile(Method method) {
+        try {
+            method.setAccessible(true);
+            MethodHandle handle = MethodHandles.lookup().unreflect(method).asFixedArity();
+            if (Modifier.isStatic(method.getModifiers()))
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            MethodHandle compiled = handle.asSpreader(Object[].class, method.getParameterCount()).asType(INVOKER_TYPE);
+            return (target, args) -> (Object) compiled.invokeExact(target, args);
+        } catch (IllegalAccessException | RuntimeException e) {
+            return reflective(method);
+        }
+    }
+
+    /**
+     * Creates a key that identifies the given method, in the format of
+     * {@code declaringClass#name(parameterType,parameterType)}. All class names are the ones returned from
+     * {@link Class#getName()}. Used to look up invokers generated at compile time.
+     *
+     * @param method A method.
+     * @return Key of the method.
+     */
+    public static String key(Method method) {
+        StringBuilder builder = new StringBuilder(method.getDeclaringClass().getName())
+                .append('#').append(method.getName()).append('(');
+        Class<?>[] types = method.getParameterTypes();
+        for (int i = 0; i < types.length; i++) {
+            if (i != 0) builder.append(',');
+            builder.append(types[i].getName());
+        }
+        return builder.append(')').toString();
+    }
+
+    /**
+     * Creates a {@link MethodInvoker} that uses {@link Method#invoke(Object, Object...)}. Used as a fallback when
+     * compiling a method fails.
+     *
+     * @param method Method to invoke.
+     * @return A {@link MethodInvoker} for {@code method}.
+     */
+    public static MethodInvoker reflective(Method method) {
+        try {
+            method.setAccessible(true);
+        } catch (RuntimeException ignored) {
+        }
+        return (target, args) -> {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause() == null ? e : e.getCause();
+            }
+        };
+    }
+
+}
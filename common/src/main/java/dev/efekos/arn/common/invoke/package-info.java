@@ -0,0 +1,4 @@
+/**
+ * Classes used to invoke handler methods without going through Java Reflection on every execution.
+ */
+package dev.efekos.arn.common.invoke;
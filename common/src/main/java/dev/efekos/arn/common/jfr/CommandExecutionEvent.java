@@ -0,0 +1,107 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.arn.common.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Emitted every time a command handler method is executed. Duration of the event covers resolving arguments and
+ * running the handler method, including the time an asynchronous handler method spends off the server thread.
+ *
+ * @author efekos
+ * @since 0.4
+ */
+@Name("dev.efekos.arn.CommandExecution")
+@Label("Command Execution")
+@Category({"Arn", "Commands"})
+@Description("Execution of a command handler method")
+public final class CommandExecutionEvent extends Event {
+
+    @Label("Signature")
+    private String signature;
+
+    @Label("Sender Type")
+    private String senderType;
+
+    @Label("Resolve Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    private long resolveDuration;
+
+    @Label("Invoke Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    private long invokeDuration;
+
+    @Label("Asynchronous")
+    private boolean async;
+
+    @Label("Result")
+    private String result;
+
+    /**
+     * Ends the event and commits it if it is enabled. Values of the event are only computed if it will be committed.
+     *
+     * @param signature       Signature of the command handler method.
+     * @param sender          Sender of the command.
+     * @param resolveDuration How long resolving arguments took, in nanoseconds.
+     * @param invokeDuration  How long running the handler method took, in nanoseconds.
+     * @param async           Whether the handler method completed off the server thread.
+     * @param result          Result of the command.
+     */
+    public void finish(String signature, Object sender, long resolveDuration, long invokeDuration, boolean async, Result result) {
+        end();
+        if (!shouldCommit()) return;
+        this.signature = signature;
+        this.senderType = sender == null ? null : sender.getClass().getSimpleName();
+        this.resolveDuration = resolveDuration;
+        this.invokeDuration = invokeDuration;
+        this.async = async;
+        this.result = result.name();
+        commit();
+    }
+
+    /**
+     * Possible results of a command execution.
+     */
+    public enum Result {
+
+        /**
+         * Handler method completed normally.
+         */
+        SUCCESS,
+
+        /**
+         * An argument couldn't be resolved, so the handler method was never invoked.
+         */
+        REJECTED,
+
+        /**
+         * Handler method threw an exception, or the {@link java.util.concurrent.CompletionStage} it returned
+         * completed exceptionally.
+         */
+        EXCEPTION
+
+    }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.arn.common.jfr;
+
+import jdk.jfr.*;
+
+import java.lang.reflect.Method;
+
+/**
+ * Emitted every time an exception thrown by a command handler method is dispatched to an exception handler method.
+ *
+ * @author efekos
+ * @since 0.4
+ */
+@Name("dev.efekos.arn.ExceptionHandler")
+@Label("Exception Handler Dispatch")
+@Category({"Arn", "Commands"})
+@Description("Dispatch of an exception to an exception handler method")
+public final class ExceptionHandlerEvent extends Event {
+
+    @Label("Exception Type")
+    private Class<?> exceptionType;
+
+    @Label("Container")
+    private Class<?> container;
+
+    @Label("Handler")
+    private String handler;
+
+    /**
+     * Ends the event and commits it if it is enabled.
+     *
+     * @param exceptionType Type of the thrown exception.
+     * @param container     Class that declares the command handler method that threw the exception.
+     * @param handler       Exception handler method the exception was dispatched to, or {@code null} if there was
+     *                      none.
+     */
+    public void finish(Class<?> exceptionType, Class<?> container, Method handler) {
+        end();
+        if (!shouldCommit()) return;
+        this.exceptionType = exceptionType;
+        this.container = container;
+        this.handler = handler == null ? null : handler.getDeclaringClass().getName() + "#" + handler.getName();
+        commit();
+    }
+
+}
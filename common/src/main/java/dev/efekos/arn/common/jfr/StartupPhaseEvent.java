@@ -0,0 +1,122 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.arn.common.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Emitted for every phase of starting up an Arn instance, such as scanning commands or registering them.
+ *
+ * @author efekos
+ * @since 0.4
+ */
+@Name("dev.efekos.arn.StartupPhase")
+@Label("Startup Phase")
+@Category({"Arn", "Startup"})
+@Description("A phase of starting up Arn")
+public final class StartupPhaseEvent extends Event {
+
+    @Label("Platform")
+    private String platform;
+
+    @Label("Phase")
+    private String phase;
+
+    /**
+     * Runs a startup phase, recording an event about it if the event is enabled.
+     *
+     * @param platform Name of the platform Arn is running on.
+     * @param phase    Name of the phase.
+     * @param task     The phase.
+     * @param <E>      Type of the exception {@code task} can throw.
+     * @throws E If {@code task} throws it.
+     */
+    public static <E extends Exception> void record(String platform, String phase, Task<E> task) throws E {
+        record(platform, phase, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs a startup phase that produces a value, recording an event about it if the event is enabled.
+     *
+     * @param platform    Name of the platform Arn is running on.
+     * @param phase       Name of the phase.
+     * @param computation The phase.
+     * @param <T>         Type of the value {@code computation} produces.
+     * @param <E>         Type of the exception {@code computation} can throw.
+     * @return Value produced by {@code computation}.
+     * @throws E If {@code computation} throws it.
+     */
+    public static <T, E extends Exception> T record(String platform, String phase, Computation<T, E> computation) throws E {
+        StartupPhaseEvent event = new StartupPhaseEvent();
+        event.begin();
+        T result = computation.compute();
+        event.end();
+        if (!event.shouldCommit()) return result;
+        event.platform = platform;
+        event.phase = phase;
+        event.commit();
+        return result;
+    }
+
+    /**
+     * A startup phase.
+     *
+     * @param <E> Type of the exception the phase can throw.
+     */
+    @FunctionalInterface
+    public interface Task<E extends Exception> {
+
+        /**
+         * Runs the phase.
+         *
+         * @throws E If the phase fails.
+         */
+        void run() throws E;
+
+    }
+
+    /**
+     * A startup phase that produces a value.
+     *
+     * @param <T> Type of the value the phase produces.
+     * @param <E> Type of the exception the phase can throw.
+     */
+    @FunctionalInterface
+    public interface Computation<T, E extends Exception> {
+
+        /**
+         * Runs the phase.
+         *
+         * @return Value produced by the phase.
+         * @throws E If the phase fails.
+         */
+        T compute() throws E;
+
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.arn.common.jfr;
+
+import com.mojang.brigadier.suggestion.Suggestions;
+import jdk.jfr.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Emitted every time suggestions of a custom argument are requested. Duration of the event lasts until the
+ * suggestions are completed, so it includes the time spent by asynchronous suggestion providers.
+ *
+ * @author efekos
+ * @since 0.4
+ */
+@Name("dev.efekos.arn.Suggestion")
+@Label("Suggestion Request")
+@Category({"Arn", "Suggestions"})
+@Description("Suggestions requested for a custom argument")
+public final class SuggestionEvent extends Event {
+
+    @Label("Argument Type")
+    private Class<?> argumentType;
+
+    @Label("Argument Name")
+    private String argumentName;
+
+    @Label("Sender Type")
+    private String senderType;
+
+    @Label("Suggestion Count")
+    private int suggestionCount;
+
+    @Label("Failed")
+    private boolean failed;
+
+    /**
+     * Computes suggestions using the given supplier, recording an event about it if the event is enabled.
+     *
+     * @param argumentType Type of the argument.
+     * @param argumentName Name of the argument.
+     * @param sender       Sender that requested the suggestions.
+     * @param suggestions  Supplier that computes the suggestions.
+     * @return Result of {@code suggestions}.
+     */
+    public static CompletableFuture<Suggestions> record(Class<?> argumentType, String argumentName, Object sender,
+                                                       Supplier<CompletableFuture<Suggestions>> suggestions) {
+        SuggestionEvent event = new SuggestionEvent();
+        if (!event.isEnabled()) return suggestions.get();
+        event.begin();
+        return suggestions.get().whenComplete((result, throwable) -> {
+            event.end();
+            if (!event.shouldCommit()) return;
+            event.argumentType = argumentType;
+            event.argumentName = argumentName;
+            event.senderType = sender == null ? null : sender.getClass().getSimpleName();
+            event.suggestionCount = result == null ? 0 : result.getList().size();
+            event.failed = throwable != null;
+            event.commit();
+        });
+    }
+
+}
@@ -0,0 +1,5 @@
+/**
+ * Java Flight Recorder events emitted by Arn. While no recording is running, creating an event costs close to nothing
+ * and values of events are never computed.
+ */
+package dev.efekos.arn.common.jfr;
@@ -0,0 +1,216 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.arn.common.metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A registry of {@link CommandMetrics} of every command registered by an Arn instance, by their signatures.
+ *
+ * @author efekos
+ * @since 0.4
+ */
+public final class ArnMetrics {
+
+    private final Map<String, CommandMetrics> commands = new ConcurrentHashMap<>();
+    private final Map<String, ResolverMetrics> resolvers = new ConcurrentHashMap<>();
+    private final Map<String, Long> startupPhases = Collections.synchronizedMap(new LinkedHashMap<>());
+    private volatile boolean resolverTimingEnabled;
+
+    /**
+     * Returns metrics of the command with the given signature, creating them if they don't exist.
+     *
+     * @param signature Signature of a command.
+     * @return Metrics of the command.
+     */
+    public CommandMetrics forCommand(String signature) {
+        return commands.computeIfAbsent(signature, CommandMetrics::new);
+    }
+
+    /**
+     * Returns metrics of the command with the given signature.
+     *
+     * @param signature Signature of a command.
+     * @return Metrics of the command, or {@code null} if there is no command with {@code signature}.
+     */
+    public CommandMetrics get(String signature) {
+        return commands.get(signature);
+    }
+
+    /**
+     * Returns metrics of every command.
+     *
+     * @return An unmodifiable view of metrics of every command.
+     */
+    public Collection<CommandMetrics> getCommands() {
+        return Collections.unmodifiableCollection(commands.values());
+    }
+
+    /**
+     * Records how long a phase of starting up Arn took.
+     *
+     * @param phase Name of the phase.
+     * @param nanos Duration in nanoseconds.
+     */
+    public void recordStartupPhase(String phase, long nanos) {
+        startupPhases.merge(phase, nanos, Long::sum);
+    }
+
+    /**
+     * Returns how long every phase of starting up Arn took, in the order they ran.
+     *
+     * @return A copy of durations of every startup phase in nanoseconds, by their names.
+     */
+    public Map<String, Long> getStartupPhases() {
+        synchronized (startupPhases) {
+            return new LinkedHashMap<>(startupPhases);
+        }
+    }
+
+    /**
+     * Returns whether calls to handler method argument resolvers are timed. Disabled by default, as timing every
+     * resolver adds overhead to every command.
+     *
+     * @return Whether resolver timing is enabled.
+     */
+    public boolean isResolverTimingEnabled() {
+        return resolverTimingEnabled;
+    }
+
+    /**
+     * Changes whether calls to handler method argument resolvers are timed.
+     *
+     * @param resolverTimingEnabled New value.
+     */
+    public void setResolverTimingEnabled(boolean resolverTimingEnabled) {
+        this.resolverTimingEnabled = resolverTimingEnabled;
+    }
+
+    /**
+     * Returns metrics of the resolver of a parameter, creating them if they don't exist.
+     *
+     * @param signature     Signature of the command.
+     * @param index         Index of the parameter.
+     * @param parameterName Name of the parameter.
+     * @param resolverClass Class of the resolver of the parameter.
+     * @return Metrics of the resolver.
+     */
+    public ResolverMetrics forParameter(String signature, int index, String parameterName, Class<?> resolverClass) {
+        return resolvers.computeIfAbsent(signature + "#" + index,
+                key -> new ResolverMetrics(signature, index, parameterName, resolverClass));
+    }
+
+    /**
+     * Returns metrics of the resolver of every parameter.
+     *
+     * @return An unmodifiable view of metrics of every parameter.
+     */
+    public Collection<ResolverMetrics> getResolvers() {
+        return Collections.unmodifiableCollection(resolvers.values());
+    }
+
+    /**
+     * Returns metrics of every resolver class, summed up from metrics of every parameter it resolves. Sorted by total
+     * time, longest first.
+     *
+     * @return Totals of every resolver class.
+     */
+    public List<ResolverTotals> getResolverTotals() {
+        Map<Class<?>, long[]> totals = new HashMap<>();
+        for (ResolverMetrics metrics : resolvers.values()) {
+            long[] total = totals.computeIfAbsent(metrics.getResolverClass(), k -> new long[3]);
+            total[0] += metrics.getTimes().getCount();
+            total[1] += metrics.getTimes().getTotal();
+            total[2] += metrics.getAllocatedBytes();
+        }
+        List<ResolverTotals> list = new ArrayList<>();
+        totals.forEach((type, total) -> list.add(new ResolverTotals(type, total[0], total[1], total[2])));
+        list.sort(Comparator.comparingLong(ResolverTotals::totalNanos).reversed());
+        return list;
+    }
+
+    /**
+     * Writes a report of resolver metrics, first by resolver class and then by parameter.
+     *
+     * @param writer Writer to write the report to.
+     * @throws IOException If {@code writer} throws it.
+     */
+    public void writeResolverReport(Writer writer) throws IOException {
+        writer.write("resolver,calls,total_ns,mean_ns,allocated_bytes\n");
+        for (ResolverTotals totals : getResolverTotals())
+            writer.write(totals.resolverClass().getName() + "," + totals.calls() + "," + totals.totalNanos() + ","
+                    + (totals.calls() == 0 ? 0 : totals.totalNanos() / totals.calls()) + "," + totals.allocatedBytes() + "\n");
+
+        writer.write("\ncommand,parameter,resolver,calls,mean_ns,p99_ns,max_ns,allocated_bytes\n");
+        List<ResolverMetrics> list = new ArrayList<>(resolvers.values());
+        list.sort(Comparator.comparing(ResolverMetrics::getSignature).thenComparingInt(ResolverMetrics::getIndex));
+        for (ResolverMetrics metrics : list) {
+            LatencyHistogram times = metrics.getTimes();
+            writer.write('"' + metrics.getSignature() + "\"," + metrics.getParameterName() + "," + metrics.getResolverClass().getName()
+                    + "," + times.getCount() + "," + (long) times.getMean() + "," + times.getPercentile(99) + ","
+                    + times.getMax() + "," + metrics.getAllocatedBytes() + "\n");
+        }
+    }
+
+    /**
+     * Writes a report of resolver metrics to the given file, replacing it if it exists.
+     *
+     * @param file Path of the file.
+     * @throws IOException If the file can't be written.
+     * @see #writeResolverReport(Writer)
+     */
+    public void dumpResolverReport(Path file) throws IOException {
+        if (file.getParent() != null) Files.createDirectories(file.getParent());
+        try (Writer writer = Files.newBufferedWriter(file)) {
+            writeResolverReport(writer);
+        }
+    }
+
+    /**
+     * Removes every value recorded for every command and resolver. Startup phases are kept, as they are only recorded
+     * once.
+     */
+    public void reset() {
+        for (CommandMetrics metrics : commands.values()) metrics.reset();
+        for (ResolverMetrics metrics : resolvers.values()) metrics.reset();
+    }
+
+    /**
+     * Metrics of a resolver class, summed up from metrics of every parameter it resolves.
+     *
+     * @param resolverClass  Class of the resolver.
+     * @param calls          How many times the resolver was called.
+     * @param totalNanos     How long calls to the resolver took in total, in nanoseconds.
+     * @param allocatedBytes How many bytes calls to the resolver allocated in total.
+     */
+    public record ResolverTotals(Class<?> resolverClass, long calls, long totalNanos, long allocatedBytes) {
+    }
+
+}
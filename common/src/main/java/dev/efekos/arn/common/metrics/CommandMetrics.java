@@ -0,0 +1,154 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.arn.common.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics of a single command. Every method of this class is thread-safe and lock-free.
+ *
+ * @author efekos
+ * @since 0.4
+ */
+public final class CommandMetrics {
+
+    private final String signature;
+    private final LongAdder invocations = new LongAdder();
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LatencyHistogram resolutionTimes = new LatencyHistogram();
+    private final LatencyHistogram handlerTimes = new LatencyHistogram();
+
+    /**
+     * Creates new metrics.
+     *
+     * @param signature Signature of the command.
+     */
+    public CommandMetrics(String signature) {
+        this.signature = signature;
+    }
+
+    /**
+     * Records that the command was executed.
+     */
+    public void recordInvocation() {
+        invocations.increment();
+    }
+
+    /**
+     * Records how long resolving arguments of the command took.
+     *
+     * @param nanos Duration in nanoseconds.
+     */
+    public void recordResolution(long nanos) {
+        resolutionTimes.record(nanos);
+    }
+
+    /**
+     * Records how long the handler method ran, and whether it completed successfully.
+     *
+     * @param nanos   Duration in nanoseconds.
+     * @param success Whether the handler method completed without an exception.
+     */
+    public void recordHandler(long nanos, boolean success) {
+        handlerTimes.record(nanos);
+        if (success) successes.increment();
+        else failures.increment();
+    }
+
+    /**
+     * Records that the command failed before its handler method could run, such as when an argument is invalid.
+     */
+    public void recordFailure() {
+        failures.increment();
+    }
+
+    /**
+     * Returns signature of the command, as returned from
+     * {@link dev.efekos.arn.common.base.BaseCommandHandlerMethod#getSignature()}.
+     *
+     * @return Signature of the command.
+     */
+    public String getSignature() {
+        return signature;
+    }
+
+    /**
+     * Returns how many times the command was executed.
+     *
+     * @return Invocation count.
+     */
+    public long getInvocations() {
+        return invocations.sum();
+    }
+
+    /**
+     * Returns how many times the command completed successfully.
+     *
+     * @return Success count.
+     */
+    public long getSuccesses() {
+        return successes.sum();
+    }
+
+    /**
+     * Returns how many times the command failed.
+     *
+     * @return Failure count.
+     */
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    /**
+     * Returns the histogram of how long resolving arguments of the command took.
+     *
+     * @return Argument resolution times.
+     */
+    public LatencyHistogram getResolutionTimes() {
+        return resolutionTimes;
+    }
+
+    /**
+     * Returns the histogram of how long the handler method of the command ran.
+     *
+     * @return Handler method times.
+     */
+    public LatencyHistogram getHandlerTimes() {
+        return handlerTimes;
+    }
+
+    /**
+     * Removes every recorded value.
+     */
+    public void reset() {
+        invocations.reset();
+        successes.reset();
+        failures.reset();
+        resolutionTimes.reset();
+        handlerTimes.reset();
+    }
+
+}
@@ -0,0 +1,126 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.arn.common.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics of the resolver of a single parameter of a command. Only recorded while
+ * {@link ArnMetrics#isResolverTimingEnabled()} is {@code true}.
+ *
+ * @author efekos
+ * @since 0.4
+ */
+public final class ResolverMetrics {
+
+    private final String signature;
+    private final int index;
+    private final String parameterName;
+    private final Class<?> resolverClass;
+    private final LatencyHistogram times = new LatencyHistogram();
+    private final LongAdder allocatedBytes = new LongAdder();
+
+    ResolverMetrics(String signature, int index, String parameterName, Class<?> resolverClass) {
+        this.signature = signature;
+        this.index = index;
+        this.parameterName = parameterName;
+        this.resolverClass = resolverClass;
+    }
+
+    /**
+     * Records a call to the resolver.
+     *
+     * @param nanos          How long the call took in nanoseconds.
+     * @param allocatedBytes How many bytes the call allocated, or a negative number if it isn't known.
+     */
+    public void record(long nanos, long allocatedBytes) {
+        times.record(nanos);
+        if (allocatedBytes > 0) this.allocatedBytes.add(allocatedBytes);
+    }
+
+    /**
+     * Returns signature of the command the parameter is in.
+     *
+     * @return Signature of the command.
+     */
+    public String getSignature() {
+        return signature;
+    }
+
+    /**
+     * Returns index of the parameter in its handler method.
+     *
+     * @return Index of the parameter.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns name of the parameter.
+     *
+     * @return Name of the parameter.
+     */
+    public String getParameterName() {
+        return parameterName;
+    }
+
+    /**
+     * Returns class of the resolver of the parameter.
+     *
+     * @return Class of the resolver.
+     */
+    public Class<?> getResolverClass() {
+        return resolverClass;
+    }
+
+    /**
+     * Returns the histogram of how long calls to the resolver took.
+     *
+     * @return Resolver times.
+     */
+    public LatencyHistogram getTimes() {
+        return times;
+    }
+
+    /**
+     * Returns how many bytes calls to the resolver allocated in total. Always {@code 0} if the JVM can't measure
+     * allocations of a thread.
+     *
+     * @return Allocated bytes.
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes.sum();
+    }
+
+    /**
+     * Removes every recorded value.
+     */
+    public void reset() {
+        times.reset();
+        allocatedBytes.reset();
+    }
+
+}
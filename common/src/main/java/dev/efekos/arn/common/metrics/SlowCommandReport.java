@@ -0,0 +1,46 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.arn.common.metrics;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A report about a command handler method that took longer than the budget of a {@link SlowCommandWatchdog}.
+ *
+ * @param time        When the handler method completed.
+ * @param signature   Signature of the command.
+ * @param sender      Name of the sender of the command.
+ * @param arguments   Short summaries of the arguments passed in to the handler method.
+ * @param nanos       How long the handler method ran, in nanoseconds.
+ * @param budgetNanos Budget of the watchdog when the report was created, in nanoseconds.
+ * @param stackTrace  Stack trace of the thread sampled while the handler method was over its budget, or {@code null}
+ *                    if stack traces weren't captured.
+ * @author efekos
+ * @since 0.4
+ */
+public record SlowCommandReport(Instant time, String signature, String sender, List<String> arguments, long nanos,
+                                long budgetNanos, StackTraceElement[] stackTrace) {
+}
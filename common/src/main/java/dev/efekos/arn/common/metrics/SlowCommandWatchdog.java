@@ -0,0 +1,303 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.arn.common.metrics;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Reports command handler methods that run longer than a budget on the server thread. Reports are kept in a ring
+ * buffer of the most recent ones, and appended to a log file from a background thread so the server thread never
+ * waits for the disk.
+ * <p>
+ * Disabled by default. While disabled, {@link #start()} returns {@code null} and costs nothing else. If stack traces
+ * are captured, a background thread samples the stack of a handler method once it goes over its budget, so the report
+ * shows what it was doing at the time rather than where it returned from.
+ *
+ * @author efekos
+ * @since 0.4
+ */
+public final class SlowCommandWatchdog {
+
+    /**
+     * Amount of reports kept by default.
+     */
+    public static final int DEFAULT_CAPACITY = 64;
+
+    private static final int MAX_ARGUMENT_LENGTH = 64;
+
+    private final AtomicReferenceArray<SlowCommandReport> reports;
+    private final AtomicLong reportCount = new AtomicLong();
+    private final AtomicReference<Watch> active = new AtomicReference<>();
+    private volatile long budgetNanos;
+    private volatile boolean captureStackTraces;
+    private volatile Path logFile;
+    private ScheduledExecutorService sampleExecutor;
+    private ExecutorService logExecutor;
+    private ScheduledFuture<?> sampler;
+
+    /**
+     * Creates a new watchdog that keeps {@link #DEFAULT_CAPACITY} reports.
+     */
+    public SlowCommandWatchdog() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new watchdog.
+     *
+     * @param capacity Amount of reports to keep.
+     */
+    public SlowCommandWatchdog(int capacity) {
+        if (capacity <= 0) throw new IllegalArgumentException("capacity must be positive");
+        this.reports = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * Returns how long a handler method can run before it is reported.
+     *
+     * @return Current budget, or {@link Duration#ZERO} if the watchdog is disabled.
+     */
+    public Duration getBudget() {
+        return Duration.ofNanos(budgetNanos);
+    }
+
+    /**
+     * Changes how long a handler method can run before it is reported.
+     *
+     * @param budget New budget, or {@code null} or {@link Duration#ZERO} to disable the watchdog.
+     * @return This watchdog.
+     */
+    public synchronized SlowCommandWatchdog setBudget(Duration budget) {
+        this.budgetNanos = budget == null || budget.isNegative() ? 0 : budget.toNanos();
+        updateSampler();
+        return this;
+    }
+
+    /**
+     * Returns whether the watchdog is enabled.
+     *
+     * @return Whether the budget is greater than zero.
+     */
+    public boolean isEnabled() {
+        return budgetNanos > 0;
+    }
+
+    /**
+     * Returns whether stack traces of slow handler methods are captured.
+     *
+     * @return Whether stack traces are captured.
+     */
+    public boolean isCaptureStackTraces() {
+        return captureStackTraces;
+    }
+
+    /**
+     * Changes whether stack traces of slow handler methods are captured.
+     *
+     * @param captureStackTraces New value.
+     * @return This watchdog.
+     */
+    public synchronized SlowCommandWatchdog setCaptureStackTraces(boolean captureStackTraces) {
+        this.captureStackTraces = captureStackTraces;
+        updateSampler();
+        return this;
+    }
+
+    /**
+     * Returns the file reports are appended to.
+     *
+     * @return Path of the log file, or {@code null} if reports aren't logged.
+     */
+    public Path getLogFile() {
+        return logFile;
+    }
+
+    /**
+     * Changes the file reports are appended to.
+     *
+     * @param logFile Path of the log file, or {@code null} to stop logging reports.
+     * @return This watchdog.
+     */
+    public SlowCommandWatchdog setLogFile(Path logFile) {
+        this.logFile = logFile;
+        return this;
+    }
+
+    /**
+     * Starts watching a handler method that is about to run on the current thread.
+     *
+     * @return A watch that must be passed in to {@link #finish(Watch, String, String, Object[])} once the handler
+     * method returns, or {@code null} if the watchdog is disabled.
+     */
+    public Watch start() {
+        if (budgetNanos <= 0) return null;
+        if (!captureStackTraces) return new Watch(null, System.nanoTime(), null);
+        Watch watch = new Watch(Thread.currentThread(), System.nanoTime(), active.get());
+        active.set(watch);
+        return watch;
+    }
+
+    /**
+     * Stops watching a handler method, and reports it if it went over the budget.
+     *
+     * @param watch     Watch returned from {@link #start()}.
+     * @param signature Signature of the command.
+     * @param sender    Name of the sender of the command.
+     * @param arguments Arguments passed in to the handler method.
+     */
+    public void finish(Watch watch, String signature, String sender, Object[] arguments) {
+        long nanos = System.nanoTime() - watch.start;
+        if (watch.thread != null) active.compareAndSet(watch, watch.parent);
+        long budget = budgetNanos;
+        if (budget <= 0 || nanos <= budget) return;
+
+        List<String> summaries = new ArrayList<>(arguments.length);
+        for (Object argument : arguments) summaries.add(summarize(argument));
+        report(new SlowCommandReport(Instant.now(), signature, sender, summaries, nanos, budget, watch.stackTrace));
+    }
+
+    /**
+     * Returns the most recent reports, newest first.
+     *
+     * @return A copy of the reports in the ring buffer.
+     */
+    public List<SlowCommandReport> getReports() {
+        int capacity = reports.length();
+        long count = reportCount.get();
+        List<SlowCommandReport> list = new ArrayList<>((int) Math.min(count, capacity));
+        for (long i = count - 1; i >= 0 && i >= count - capacity; i--) {
+            SlowCommandReport report = reports.get((int) (i % capacity));
+            if (report != null) list.add(report);
+        }
+        return list;
+    }
+
+    /**
+     * Removes every report from the ring buffer. Doesn't affect the log file.
+     */
+    public void clear() {
+        for (int i = 0; i < reports.length(); i++) reports.set(i, null);
+    }
+
+    private void report(SlowCommandReport report) {
+        long index = reportCount.getAndIncrement();
+        reports.set((int) (index % reports.length()), report);
+        Path file = logFile;
+        if (file != null) logExecutor().execute(() -> append(file, report));
+    }
+
+    private static void append(Path file, SlowCommandReport report) {
+        StringBuilder builder = new StringBuilder().append('[').append(report.time()).append("] ")
+                .append(report.signature()).append(" took ").append(formatMillis(report.nanos()))
+                .append(" (budget ").append(formatMillis(report.budgetNanos())).append("), sender: ").append(report.sender())
+                .append("\n    arguments: ").append(report.arguments()).append('\n');
+        if (report.stackTrace() != null)
+            for (StackTraceElement element : report.stackTrace()) builder.append("    at ").append(element).append('\n');
+        try {
+            if (file.getParent() != null) Files.createDirectories(file.getParent());
+            Files.writeString(file, builder, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private static String formatMillis(long nanos) {
+        return String.format(Locale.ROOT, "%.2fms", nanos / 1_000_000d);
+    }
+
+    private static String summarize(Object argument) {
+        String string;
+        try {
+            string = argument == null ? "null" : argument.getClass().getSimpleName() + ":" + argument;
+        } catch (RuntimeException e) {
+            string = argument.getClass().getSimpleName();
+        }
+        return string.length() <= MAX_ARGUMENT_LENGTH ? string : string.substring(0, MAX_ARGUMENT_LENGTH - 3) + "...";
+    }
+
+    private void sample() {
+        Watch watch = active.get();
+        if (watch != null && watch.stackTrace == null && System.nanoTime() - watch.start > budgetNanos)
+            watch.stackTrace = watch.thread.getStackTrace();
+    }
+
+    private synchronized ExecutorService logExecutor() {
+        if (logExecutor == null) logExecutor = Executors.newSingleThreadExecutor(runnable -> daemon(runnable, "arn-watchdog-log"));
+        return logExecutor;
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private void updateSampler() {
+        if (sampler != null) {
+            sampler.cancel(false);
+            sampler = null;
+        }
+        if (budgetNanos <= 0 || !captureStackTraces) return;
+        long period = Math.max(budgetNanos / 2, TimeUnit.MILLISECONDS.toNanos(1));
+        if (sampleExecutor == null)
+            sampleExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> daemon(runnable, "arn-watchdog"));
+        sampler = sampleExecutor.scheduleAtFixedRate(this::sample, period, period, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * An execution of a handler method watched by a {@link SlowCommandWatchdog}.
+     */
+    public static final class Watch {
+
+        private final Thread thread;
+        private final long start;
+        private final Watch parent;
+        private volatile StackTraceElement[] stackTrace;
+
+        private Watch(Thread thread, long start, Watch parent) {
+            this.thread = thread;
+            this.start = start;
+            this.parent = parent;
+        }
+
+    }
+
+}
@@ -0,0 +1,4 @@
+/**
+ * Classes used to record how often and how fast commands are executed.
+ */
+package dev.efekos.arn.common.metrics;
@@ -0,0 +1,60 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.arn.common.resolver;
+
+import dev.efekos.arn.common.base.BaseCustomArgumentType;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Utility class used by command argument resolvers to get suggestions of a {@link BaseCustomArgumentType}, going
+ * through its {@link SuggestionCache} when it has one.
+ *
+ * @author efekos
+ * @since 0.4
+ */
+public final class CustomArgumentSuggestions {
+
+    private CustomArgumentSuggestions() {
+    }
+
+    /**
+     * Returns suggestions of the given argument type. If the type has a {@link SuggestionCache}, suggestions are
+     * computed once for every sender with an empty input, and stay in the cache until they expire.
+     *
+     * @param type      A custom argument type.
+     * @param sender    Sender who is typing the argument.
+     * @param remaining Lower-case input the sender has typed so far.
+     * @param <Sender>  Type of the command sender.
+     * @return A future of the suggestions. Suggestions aren't guaranteed to start with {@code remaining}.
+     */
+    public static <Sender> CompletableFuture<List<String>> get(BaseCustomArgumentType<?, ?, Sender> type, Sender sender, String remaining) {
+        SuggestionCache<Sender> cache = type.getSuggestionCache();
+        if (cache == null) return type.suggestAsync(sender, remaining);
+        return cache.get(sender, s -> type.suggestAsync(s, ""));
+    }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.arn.common.resolver;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A case-insensitive lookup table of the constants of an {@link Enum}. Created once while scanning, so resolving an
+ * enum argument never copies the constants array or throws an exception when the input isn't a constant.
+ *
+ * @author efekos
+ * @since 0.4
+ */
+public final class EnumLookup {
+
+    private final Map<String, Enum<?>> constants;
+
+    /**
+     * Creates a new lookup table.
+     *
+     * @param enumClass An {@link Enum} class.
+     */
+    public EnumLookup(Class<? extends Enum<?>> enumClass) {
+        Enum<?>[] values = enumClass.getEnumConstants();
+        Map<String, Enum<?>> map = new HashMap<>(values.length * 4);
+        for (Enum<?> constant : values) {
+            map.put(constant.name(), constant);
+            map.putIfAbsent(constant.name().toLowerCase(Locale.ENGLISH), constant);
+        }
+        this.constants = Map.copyOf(map);
+    }
+
+    /**
+     * Finds the constant with the given name, ignoring case.
+     *
+     * @param name Name of a constant.
+     * @return The constant with {@code name}, or {@code null} if there isn't one.
+     */
+    public Enum<?> find(String name) {
+        Enum<?> constant = constants.get(name);
+        return constant != null ? constant : constants.get(name.toUpperCase(Locale.ENGLISH));
+    }
+
+}
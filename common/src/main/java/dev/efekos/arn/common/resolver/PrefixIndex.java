@@ -0,0 +1,115 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.arn.common.resolver;
+
+import com.mojang.brigadier.suggestion.Suggestions;
+import com.mojang.brigadier.suggestion.SuggestionsBuilder;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A sorted index of lower-case suggestions. Created once while scanning, so finding the suggestions that start with
+ * an input is a binary search instead of a loop over every suggestion.
+ *
+ * @author efekos
+ * @since 0.4
+ */
+public final class PrefixIndex {
+
+    private final String[] values;
+    private final int limit;
+
+    /**
+     * Creates a new prefix index.
+     *
+     * @param values Suggestions to index. Converted to lower-case.
+     * @param limit  Maximum amount of suggestions to return from a query, or {@code 0} for no limit.
+     */
+    public PrefixIndex(Collection<String> values, int limit) {
+        if (limit < 0) throw new IllegalArgumentException("limit can't be negative: " + limit);
+        this.values = values.stream().map(s -> s.toLowerCase(Locale.ENGLISH)).distinct().sorted().toArray(String[]::new);
+        this.limit = limit;
+    }
+
+    /**
+     * Creates a new prefix index of the constants of an {@link Enum}.
+     *
+     * @param enumClass An {@link Enum} class.
+     * @param limit     Maximum amount of suggestions to return from a query, or {@code 0} for no limit.
+     * @return A new prefix index.
+     */
+    public static PrefixIndex ofEnum(Class<? extends Enum<?>> enumClass, int limit) {
+        return new PrefixIndex(Arrays.stream(enumClass.getEnumConstants()).map(Enum::name).toList(), limit);
+    }
+
+    /**
+     * Finds every suggestion that starts with the given prefix, in alphabetical order.
+     *
+     * @param prefix A lower-case prefix.
+     * @return An unmodifiable slice of the index.
+     */
+    public List<String> find(String prefix) {
+        int from = lowerBound(prefix);
+        int to = prefix.isEmpty() ? values.length : lowerBound(prefix + Character.MAX_VALUE);
+        if (limit != 0 && to - from > limit) to = from + limit;
+        return Arrays.asList(values).subList(from, to);
+    }
+
+    /**
+     * Adds every suggestion that starts with the remaining input of {@code builder} to it.
+     *
+     * @param builder A suggestions builder.
+     * @return Built suggestions.
+     */
+    public CompletableFuture<Suggestions> suggest(SuggestionsBuilder builder) {
+        for (String value : find(builder.getRemainingLowerCase())) builder.suggest(value);
+        return builder.buildFuture();
+    }
+
+    /**
+     * Returns the amount of suggestions in this index.
+     *
+     * @return Size of the index.
+     */
+    public int size() {
+        return values.length;
+    }
+
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid].compareTo(key) < 0) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+}
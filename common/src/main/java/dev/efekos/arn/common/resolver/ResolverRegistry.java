@@ -0,0 +1,149 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.arn.common.resolver;
+
+import dev.efekos.arn.common.base.BaseCmdResolver;
+import dev.efekos.arn.common.base.BaseHndResolver;
+import dev.efekos.arn.common.exception.ExceptionMap;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Parameter;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Finds the {@link BaseHndResolver} and {@link BaseCmdResolver} of handler method parameters. A resolver is found by
+ * checking every resolver in order and picking the first one that is applicable and not excluded with an
+ * {@link ExceptionMap}, but the result is cached for the shape of the parameter, so parameters with the same type,
+ * annotations and name never scan the resolver lists again.
+ * <p>
+ * A registry is a snapshot of the lists it was created with, so it must be created after all configurers are applied.
+ *
+ * @param <Hnd> Type of the handler method argument resolvers.
+ * @param <Cmd> Type of the command argument resolvers.
+ * @author efekos
+ * @since 0.4
+ */
+public final class ResolverRegistry<Hnd extends BaseHndResolver<?, ?>, Cmd extends BaseCmdResolver<?>> {
+
+    private final List<Hnd> handlerResolvers;
+    private final ExceptionMap<Hnd> handlerExceptions;
+    private final List<Cmd> commandResolvers;
+    private final ExceptionMap<Cmd> commandExceptions;
+    private final Map<Key, Match<Hnd, Cmd>> cache = new HashMap<>();
+
+    /**
+     * Creates a new registry.
+     *
+     * @param handlerResolvers  Handler method argument resolvers, in the order of priority.
+     * @param handlerExceptions Exceptions of the handler method argument resolvers.
+     * @param commandResolvers  Command argument resolvers, in the order of priority.
+     * @param commandExceptions Exceptions of the command argument resolvers.
+     */
+    public ResolverRegistry(List<Hnd> handlerResolvers, ExceptionMap<Hnd> handlerExceptions, List<Cmd> commandResolvers,
+                            ExceptionMap<Cmd> commandExceptions) {
+        this.handlerResolvers = List.copyOf(handlerResolvers);
+        this.handlerExceptions = handlerExceptions;
+        this.commandResolvers = List.copyOf(commandResolvers);
+        this.commandExceptions = commandExceptions;
+    }
+
+    /**
+     * Finds the resolvers of the given parameter.
+     *
+     * @param parameter A parameter of a handler method.
+     * @return Resolvers found for {@code parameter}. Never {@code null}, but the resolvers in it might be.
+     */
+    public Match<Hnd, Cmd> find(Parameter parameter) {
+        return cache.computeIfAbsent(Key.of(parameter), key -> scan(parameter));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Match<Hnd, Cmd> scan(Parameter parameter) {
+        Hnd handlerResolver = null;
+        for (Hnd resolver : handlerResolvers)
+            if (resolver.isApplicable(parameter) && isNotExcluded(handlerExceptions.get((Class<? extends Hnd>) resolver.getClass()), parameter)) {
+                handlerResolver = resolver;
+                break;
+            }
+
+        Cmd commandResolver = null;
+        if (handlerResolver != null && handlerResolver.requireCommandArgument())
+            for (Cmd resolver : commandResolvers)
+                if (resolver.isApplicable(parameter) && isNotExcluded(commandExceptions.get((Class<? extends Cmd>) resolver.getClass()), parameter)) {
+                    commandResolver = resolver;
+                    break;
+                }
+
+        return new Match<>(handlerResolver, commandResolver);
+    }
+
+    private static boolean isNotExcluded(List<Class<? extends Annotation>> exceptions, Parameter parameter) {
+        for (Class<? extends Annotation> exception : exceptions)
+            if (parameter.isAnnotationPresent(exception)) return false;
+        return true;
+    }
+
+    /**
+     * Resolvers found for a parameter.
+     *
+     * @param handlerResolver First applicable handler method argument resolver, or {@code null} if there isn't one.
+     * @param commandResolver First applicable command argument resolver, or {@code null} if there isn't one or
+     *                        {@code handlerResolver} doesn't require a command argument.
+     * @param <Hnd>           Type of the handler method argument resolvers.
+     * @param <Cmd>           Type of the command argument resolvers.
+     */
+    public record Match<Hnd extends BaseHndResolver<?, ?>, Cmd extends BaseCmdResolver<?>>(Hnd handlerResolver,
+                                                                                 Cmd commandResolver) {
+
+        /**
+         * Returns whether the parameter can be resolved with the resolvers found.
+         *
+         * @return {@code true} if there is a handler method argument resolver, and a command argument resolver if it
+         * is required.
+         */
+        public boolean isResolvable() {
+            return handlerResolver != null && (commandResolver != null || !handlerResolver.requireCommandArgument());
+        }
+
+    }
+
+    /**
+     * Shape of a parameter. Name of the parameter is a part of it because some resolvers check the name too.
+     */
+    private record Key(Class<?> type, Set<Class<? extends Annotation>> annotations, String name) {
+
+        static Key of(Parameter parameter) {
+            Set<Class<? extends Annotation>> annotations = new HashSet<>();
+            for (Annotation annotation : parameter.getAnnotations()) annotations.add(annotation.annotationType());
+            return new Key(parameter.getType(), annotations, parameter.getName());
+        }
+
+    }
+
+}
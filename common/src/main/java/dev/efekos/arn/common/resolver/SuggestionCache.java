@@ -0,0 +1,117 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.arn.common.resolver;
+
+import dev.efekos.arn.common.base.BaseCustomArgumentType;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * A per-sender cache of the suggestions of a {@link BaseCustomArgumentType}. Cached suggestions expire after a fixed
+ * amount of time, or when they are invalidated. Senders are weakly referenced, so a sender that is gone doesn't stay in
+ * the cache.
+ * <p>
+ * While suggestions of a sender are being computed, every other request from that sender waits for the same future
+ * instead of computing them again.
+ *
+ * @param <Sender> Type of the command sender.
+ * @author efekos
+ * @since 0.4
+ */
+public final class SuggestionCache<Sender> {
+
+    private final long ttlNanos;
+    private final Map<Sender, Entry> entries = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Creates a new suggestion cache.
+     *
+     * @param ttl How long suggestions stay in the cache.
+     */
+    public SuggestionCache(Duration ttl) {
+        if (ttl.isNegative() || ttl.isZero()) throw new IllegalArgumentException("ttl must be positive: " + ttl);
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * Returns cached suggestions of the given sender, computing them with {@code loader} if they aren't cached or have
+     * expired. {@code loader} is called without holding the lock of the cache, so a slow loader doesn't block requests
+     * from other senders.
+     *
+     * @param sender Any command sender.
+     * @param loader Function that computes suggestions of a sender.
+     * @return A future of the suggestions.
+     */
+    public CompletableFuture<List<String>> get(Sender sender, Function<Sender, CompletableFuture<List<String>>> loader) {
+        long now = System.nanoTime();
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(sender);
+            if (entry != null && now - entry.createdAt < ttlNanos) return entry.suggestions;
+            entry = new Entry(new CompletableFuture<>(), now);
+            entries.put(sender, entry);
+        }
+        Entry created = entry;
+        created.suggestions.whenComplete((suggestions, throwable) -> {
+            if (throwable != null) entries.remove(sender, created);
+        });
+        try {
+            loader.apply(sender).whenComplete((suggestions, throwable) -> {
+                if (throwable != null) created.suggestions.completeExceptionally(throwable);
+                else created.suggestions.complete(suggestions);
+            });
+        } catch (Throwable t) {
+            created.suggestions.completeExceptionally(t);
+            throw t;
+        }
+        return created.suggestions;
+    }
+
+    /**
+     * Removes cached suggestions of the given sender.
+     *
+     * @param sender Any command sender.
+     */
+    public void invalidate(Sender sender) {
+        entries.remove(sender);
+    }
+
+    /**
+     * Removes cached suggestions of every sender.
+     */
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    private record Entry(CompletableFuture<List<String>> suggestions, long createdAt) {
+    }
+
+}
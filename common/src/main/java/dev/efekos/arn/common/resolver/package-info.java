@@ -0,0 +1,4 @@
+/**
+ * Classes used to look up resolvers of handler method parameters while registering commands.
+ */
+package dev.efekos.arn.common.resolver;
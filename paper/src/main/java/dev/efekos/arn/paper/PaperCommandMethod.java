@@ -24,9 +24,10 @@
 
 package dev.efekos.arn.paper;
 
-import dev.efekos.arn.common.base.BaseCommandHandlerMethod;
+import dev.efekos.arn.common.engine.BrigadierCommandHandlerMethod;
 import dev.efekos.arn.paper.face.PaperCmdResolver;
 import dev.efekos.arn.paper.face.PaperHndResolver;
+import io.papermc.paper.command.brigadier.CommandSourceStack;
 
-public final class PaperCommandMethod extends BaseCommandHandlerMethod<PaperCmdResolver, PaperHndResolver> {
-}
\ No newline at end of file
+public final class PaperCommandMethod extends BrigadierCommandHandlerMethod<CommandSourceStack, PaperCommandMethod, PaperCmdResolver, PaperHndResolver> {
+}
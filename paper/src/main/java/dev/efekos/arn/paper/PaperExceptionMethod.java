@@ -28,12 +28,8 @@ import com.mojang.brigadier.context.CommandContext;
 import dev.efekos.arn.common.base.BaseExceptionHandlerMethod;
 import io.papermc.paper.command.brigadier.CommandSourceStack;
 import org.bukkit.command.CommandSender;
-import org.bukkit.entity.Player;
 
 import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
-import java.util.ArrayList;
-import java.util.List;
 
 public final class PaperExceptionMethod extends BaseExceptionHandlerMethod<CommandContext<CommandSourceStack>> {
 
@@ -42,20 +38,13 @@ public final class PaperExceptionMethod extends BaseExceptionHandlerMethod<Comma
     }
 
     @Override
-    public List<Object> fillParams(Throwable ex, CommandContext<CommandSourceStack> commandContext) {
-        List<Object> objects = new ArrayList<>();
-
-        for (Parameter parameter : method.getParameters()) {
-            if (Player.class.isAssignableFrom(parameter.getType()))
-                objects.add(commandContext.getSource().getSender());
-            else if (CommandSender.class.isAssignableFrom(parameter.getType()))
-                objects.add(commandContext.getSource().getSender());
-            else if (parameter.getType().isAssignableFrom(exceptionClass) || exceptionClass.equals(parameter.getType()))
-                objects.add(ex);
-            else objects.add(null);
-        }
-
-        return objects;
+    protected boolean isSenderParameter(Class<?> type) {
+        return CommandSender.class.isAssignableFrom(type);
+    }
+
+    @Override
+    protected Object getSender(CommandContext<CommandSourceStack> commandContext) {
+        return commandContext.getSource().getSender();
     }
 
 }
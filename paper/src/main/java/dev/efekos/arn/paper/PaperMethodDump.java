@@ -25,24 +25,12 @@
 package dev.efekos.arn.paper;
 
 import com.mojang.brigadier.LiteralMessage;
-import com.mojang.brigadier.context.CommandContext;
 import com.mojang.brigadier.exceptions.DynamicCommandExceptionType;
 import com.mojang.brigadier.exceptions.SimpleCommandExceptionType;
-import dev.efekos.arn.common.annotation.Container;
-import dev.efekos.arn.common.annotation.ExceptionHandler;
 import dev.efekos.arn.common.exception.ArnSyntaxException;
-import dev.efekos.arn.paper.face.PaperHndResolver;
-import io.papermc.paper.command.brigadier.CommandSourceStack;
 import org.bukkit.command.BlockCommandSender;
 import org.bukkit.command.ConsoleCommandSender;
 import org.bukkit.entity.Player;
-import org.reflections.Reflections;
-
-import java.lang.annotation.Annotation;
-import java.lang.reflect.Method;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
 
 public sealed class PaperMethodDump permits PaperArn {
 
@@ -72,47 +60,5 @@ public sealed class PaperMethodDump permits PaperArn {
      */
     public static final DynamicCommandExceptionType GENERIC = new DynamicCommandExceptionType(
             o -> new LiteralMessage(o.toString()));
-    protected final List<PaperExceptionMethod> exceptionMethods = new ArrayList<>();
-
-    protected static List<Object> fillResolvers(PaperCommandMethod method,
-                                                CommandContext<CommandSourceStack> commandContext) throws ArnSyntaxException {
-        List<Object> objects = new ArrayList<>();
-
-        for (int i = 0; i < method.getHandlerMethodResolvers().size(); i++) {
-            PaperHndResolver resolver = method.getHandlerMethodResolvers().get(i);
-            objects.add(resolver.resolve(method.getParameters().get(i), method, commandContext));
-        }
-        return objects;
-    }
-
-    protected Optional<PaperExceptionMethod> findHandlerMethod(Throwable e) {
-        for (PaperExceptionMethod method : exceptionMethods)
-            if (method.getExceptionClass().isAssignableFrom(e.getClass()))
-                return Optional.of(method);
-        return Optional.empty();
-    }
-
-    protected void scanExceptionHandlerMethods(Reflections reflections, List<Class<?>> exclusions) {
-        for (Class<?> aClass : reflections.getTypesAnnotatedWith(Container.class)) {
-            if (exclusions.contains(aClass)) continue;
-            for (Method method : aClass.getDeclaredMethods()) {
-                if (!method.isAnnotationPresent(ExceptionHandler.class))
-                    continue;
-                ExceptionHandler annotation = method.getAnnotation(ExceptionHandler.class);
-                PaperExceptionMethod handlerMethod = new PaperExceptionMethod(method, annotation.value());
-                exceptionMethods.add(handlerMethod);
-            }
-        }
-
-    }
-
-    protected <T extends Annotation> T getApplied(Method method, Class<T> annotation) {
-        return Optional.ofNullable(method.getAnnotation(annotation)).orElse(Optional.ofNullable(method.getDeclaringClass().getAnnotation(annotation)).orElse(method.getDeclaringClass().getPackage().getAnnotation(annotation)));
-    }
-
-    protected boolean isApplied(Method method, Class<? extends Annotation> annotation) {
-        return Optional.ofNullable(getApplied(method, annotation)).isPresent();
-    }
-
 
-}
\ No newline at end of file
+}
@@ -27,10 +27,13 @@ package dev.efekos.arn.paper.command;
 import com.mojang.brigadier.builder.ArgumentBuilder;
 import dev.efekos.arn.common.annotation.CommandArgument;
 import dev.efekos.arn.common.base.BaseCmdResolver;
+import dev.efekos.arn.common.jfr.SuggestionEvent;
+import dev.efekos.arn.common.resolver.CustomArgumentSuggestions;
 import dev.efekos.arn.paper.face.CustomArnArgumentType;
 import dev.efekos.arn.paper.face.PaperCmdResolver;
 import io.papermc.paper.command.brigadier.CommandSourceStack;
 import io.papermc.paper.command.brigadier.Commands;
+import org.bukkit.command.CommandSender;
 
 import java.lang.reflect.Parameter;
 
@@ -69,11 +72,17 @@ public final class CmdCustomArg implements PaperCmdResolver {
      */
     @Override
     public ArgumentBuilder<CommandSourceStack, ?> apply(Parameter parameter) {
-        return Commands.argument(getName(parameter), customArgumentType.getRegistration().getFunc()).suggests((context, builder) -> {
-                    for (String s : customArgumentType.suggest(context.getSource().getSender())) {
-                        if (s.startsWith(builder.getRemainingLowerCase())) builder.suggest(s);
-                    }
-                    return builder.buildFuture();
+        String name = getName(parameter);
+        return Commands.argument(name, customArgumentType.getRegistration().getFunc()).suggests((context, builder) -> {
+                    String remaining = builder.getRemainingLowerCase();
+                    CommandSender sender = context.getSource().getSender();
+                    return SuggestionEvent.record(customArgumentType.getType(), name, sender, () ->
+                            CustomArgumentSuggestions.get(customArgumentType, sender, remaining).thenApply(suggestions -> {
+                                for (String s : suggestions) {
+                                    if (s.startsWith(remaining)) builder.suggest(s);
+                                }
+                                return builder.build();
+                            }));
                 }
         );
     }
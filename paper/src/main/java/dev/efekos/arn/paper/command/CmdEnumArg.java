@@ -27,25 +27,24 @@ package dev.efekos.arn.paper.command;
 import com.mojang.brigadier.arguments.StringArgumentType;
 import com.mojang.brigadier.builder.ArgumentBuilder;
 import dev.efekos.arn.common.annotation.CommandArgument;
+import dev.efekos.arn.common.annotation.CustomArgument;
+import dev.efekos.arn.common.jfr.SuggestionEvent;
+import dev.efekos.arn.common.resolver.PrefixIndex;
 import dev.efekos.arn.paper.face.PaperCmdResolver;
 import io.papermc.paper.command.brigadier.CommandSourceStack;
 import io.papermc.paper.command.brigadier.Commands;
 
 import java.lang.reflect.Parameter;
-import java.util.ArrayList;
-import java.util.List;
 
 public final class CmdEnumArg implements PaperCmdResolver {
 
     private final Class<? extends Enum<?>> clazz;
-    private final List<String> constants;
+    private final PrefixIndex constants;
 
     public CmdEnumArg(Class<? extends Enum<?>> clazz) {
         this.clazz = clazz;
-        this.constants = new ArrayList<>();
-        for (Enum<?> constant : clazz.getEnumConstants()) {
-            constants.add(constant.name());
-        }
+        CustomArgument annotation = clazz.getAnnotation(CustomArgument.class);
+        this.constants = PrefixIndex.ofEnum(clazz, annotation == null ? 0 : annotation.suggestionLimit());
     }
 
     @Override
@@ -55,12 +54,9 @@ public final class CmdEnumArg implements PaperCmdResolver {
 
     @Override
     public ArgumentBuilder<CommandSourceStack, ?> apply(Parameter parameter) {
-        return Commands.argument(getName(parameter), StringArgumentType.word()).suggests((commandContext, suggestionsBuilder) -> {
-            for (String constant : constants)
-                if (constant.startsWith(suggestionsBuilder.getRemainingLowerCase()))
-                    suggestionsBuilder.suggest(constant);
-            return suggestionsBuilder.buildFuture();
-        });
+        String name = getName(parameter);
+        return Commands.argument(name, StringArgumentType.word()).suggests((commandContext, suggestionsBuilder) ->
+                SuggestionEvent.record(clazz, name, commandContext.getSource().getSender(), () -> constants.suggest(suggestionsBuilder)));
     }
 
 }
@@ -26,9 +26,12 @@ package dev.efekos.arn.paper.enumerator;
 
 import com.mojang.brigadier.arguments.*;
 import com.mojang.brigadier.context.CommandContext;
+import dev.efekos.arn.common.exception.ArnSyntaxException;
+import dev.efekos.arn.paper.face.CustomArnArgumentType;
 import io.papermc.paper.command.brigadier.CommandSourceStack;
 import io.papermc.paper.command.brigadier.argument.ArgumentTypes;
 import org.bukkit.NamespacedKey;
+import org.bukkit.command.CommandSender;
 
 import java.util.function.Supplier;
 
@@ -119,6 +122,29 @@ public enum PaperRegistration {
         return getFunction.get(context, name);
     }
 
+    /**
+     * Parses value of the argument using the typed parse method of {@code type} that matches this registration type,
+     * so values parsed by Brigadier are never converted to a {@link String} and parsed again.
+     *
+     * @param type    The custom argument type to parse the value with.
+     * @param context Context of the command.
+     * @param name    Name of the argument.
+     * @param <T>     Type of the custom argument.
+     * @return Parsed object.
+     * @throws ArnSyntaxException If {@code type} can't parse the value.
+     * @since 0.4
+     */
+    public <T> T parse(CustomArnArgumentType<T> type, CommandContext<CommandSourceStack> context, String name) throws ArnSyntaxException {
+        CommandSender sender = context.getSource().getSender();
+        return switch (this) {
+            case ID -> type.parseKey(sender, context.getArgument(name, NamespacedKey.class));
+            case WORD, STRING -> type.parse(sender, StringArgumentType.getString(context, name));
+            case INTEGER -> type.parseInteger(sender, IntegerArgumentType.getInteger(context, name));
+            case DOUBLE -> type.parseDouble(sender, DoubleArgumentType.getDouble(context, name));
+            case BOOLEAN -> type.parseBoolean(sender, BoolArgumentType.getBool(context, name));
+        };
+    }
+
     /**
      * A small interface used to specify getter functions of {@link PaperRegistration} types.
      *
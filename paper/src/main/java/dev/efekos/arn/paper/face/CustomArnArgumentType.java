@@ -25,8 +25,67 @@
 package dev.efekos.arn.paper.face;
 
 import dev.efekos.arn.common.base.BaseCustomArgumentType;
+import dev.efekos.arn.common.exception.ArnSyntaxException;
 import dev.efekos.arn.paper.enumerator.PaperRegistration;
+import org.bukkit.NamespacedKey;
 import org.bukkit.command.CommandSender;
 
 public interface CustomArnArgumentType<T> extends BaseCustomArgumentType<T, PaperRegistration, CommandSender> {
+
+    /**
+     * Parses an argument registered with {@link PaperRegistration#INTEGER}. Override this method to use the parsed value
+     * directly. Converts the value to a {@link String} and calls {@link #parse} by default.
+     *
+     * @param sender Sender who sent this argument.
+     * @param arg    The argument value.
+     * @return Parsed object.
+     * @throws ArnSyntaxException If {@code arg} is invalid.
+     * @since 0.4
+     */
+    default T parseInteger(CommandSender sender, int arg) throws ArnSyntaxException {
+        return parse(sender, Integer.toString(arg));
+    }
+
+    /**
+     * Parses an argument registered with {@link PaperRegistration#DOUBLE}. Override this method to use the parsed value
+     * directly. Converts the value to a {@link String} and calls {@link #parse} by default.
+     *
+     * @param sender Sender who sent this argument.
+     * @param arg    The argument value.
+     * @return Parsed object.
+     * @throws ArnSyntaxException If {@code arg} is invalid.
+     * @since 0.4
+     */
+    default T parseDouble(CommandSender sender, double arg) throws ArnSyntaxException {
+        return parse(sender, Double.toString(arg));
+    }
+
+    /**
+     * Parses an argument registered with {@link PaperRegistration#BOOLEAN}. Override this method to use the parsed value
+     * directly. Converts the value to a {@link String} and calls {@link #parse} by default.
+     *
+     * @param sender Sender who sent this argument.
+     * @param arg    The argument value.
+     * @return Parsed object.
+     * @throws ArnSyntaxException If {@code arg} is invalid.
+     * @since 0.4
+     */
+    default T parseBoolean(CommandSender sender, boolean arg) throws ArnSyntaxException {
+        return parse(sender, Boolean.toString(arg));
+    }
+
+    /**
+     * Parses an argument registered with {@link PaperRegistration#ID}. Override this method to use the parsed value
+     * directly. Converts the value to a {@link String} and calls {@link #parse} by default.
+     *
+     * @param sender Sender who sent this argument.
+     * @param arg    The argument value.
+     * @return Parsed object.
+     * @throws ArnSyntaxException If {@code arg} is invalid.
+     * @since 0.4
+     */
+    default T parseKey(CommandSender sender, NamespacedKey arg) throws ArnSyntaxException {
+        return parse(sender, arg.toString());
+    }
+
 }
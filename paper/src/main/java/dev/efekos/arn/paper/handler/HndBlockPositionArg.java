@@ -50,7 +50,12 @@ public class HndBlockPositionArg implements PaperHndResolver {
 
     @Override
     public BlockPosition resolve(Parameter parameter, PaperCommandMethod method, CommandContext<CommandSourceStack> context) throws ArnSyntaxException {
-        BlockPositionResolver resolver = context.getArgument(getName(parameter), BlockPositionResolver.class);
+        return resolve(parameter, getName(parameter), method, context);
+    }
+
+    @Override
+    public BlockPosition resolve(Parameter parameter, String name, PaperCommandMethod method, CommandContext<CommandSourceStack> context) throws ArnSyntaxException {
+        BlockPositionResolver resolver = context.getArgument(name, BlockPositionResolver.class);
         try {
             return resolver.resolve(context.getSource());
         } catch (CommandSyntaxException e) {
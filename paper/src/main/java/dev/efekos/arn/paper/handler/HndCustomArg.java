@@ -81,11 +81,19 @@ public final class HndCustomArg implements PaperHndResolver {
     /**
      * {@inheritDoc}
      */
+    @Override
     public Object resolve(Parameter parameter, PaperCommandMethod method,
                           CommandContext<CommandSourceStack> context) throws ArnSyntaxException {
-        String s = parameter.getAnnotation(CommandArgument.class).value();
-        String string = customArgumentType.getRegistration().getV(context, s.isEmpty() ? parameter.getName() : s);
-        return customArgumentType.parse(context.getSource().getSender(), string);
+        return resolve(parameter, getName(parameter), method, context);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object resolve(Parameter parameter, String name, PaperCommandMethod method,
+                          CommandContext<CommandSourceStack> context) throws ArnSyntaxException {
+        return customArgumentType.getRegistration().parse(customArgumentType, context, name);
     }
 
 }
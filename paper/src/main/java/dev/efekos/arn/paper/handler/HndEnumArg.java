@@ -29,16 +29,13 @@ import com.mojang.brigadier.context.CommandContext;
 import dev.efekos.arn.common.annotation.CommandArgument;
 import dev.efekos.arn.common.annotation.CustomArgument;
 import dev.efekos.arn.common.base.BaseHndResolver;
-import dev.efekos.arn.common.exception.ArnCommandException;
 import dev.efekos.arn.common.exception.ArnSyntaxException;
+import dev.efekos.arn.common.resolver.EnumLookup;
 import dev.efekos.arn.paper.PaperCommandMethod;
 import dev.efekos.arn.paper.face.PaperHndResolver;
 import io.papermc.paper.command.brigadier.CommandSourceStack;
-import org.bukkit.Bukkit;
-import org.bukkit.ChatColor;
 
 import java.lang.reflect.Parameter;
-import java.util.Locale;
 
 /**
  * An implementation of {@link BaseHndResolver}. Resolves
@@ -55,6 +52,17 @@ public final class HndEnumArg implements PaperHndResolver {
      */
     private final Class<? extends Enum<?>> enumClass;
 
+    /**
+     * Lookup table of the constants of {@link #enumClass}.
+     */
+    private final EnumLookup lookup;
+
+    /**
+     * End of the message of the exception thrown when an input isn't a constant of {@link #enumClass}, used when
+     * the argument doesn't have a custom name.
+     */
+    private final String notMemberSuffix;
+
     /**
      * Creates a new instance of this resolver.
      *
@@ -62,6 +70,8 @@ public final class HndEnumArg implements PaperHndResolver {
      */
     public HndEnumArg(Class<? extends Enum<?>> enumClass) {
         this.enumClass = enumClass;
+        this.lookup = new EnumLookup(enumClass);
+        this.notMemberSuffix = "' is not a member of '" + enumClass.getSimpleName() + "'";
     }
 
     /**
@@ -86,22 +96,20 @@ public final class HndEnumArg implements PaperHndResolver {
     @Override
     public Enum<?> resolve(Parameter parameter, PaperCommandMethod method,
                            CommandContext<CommandSourceStack> context) throws ArnSyntaxException {
+        return resolve(parameter, getName(parameter), method, context);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Enum<?> resolve(Parameter parameter, String name, PaperCommandMethod method,
+                           CommandContext<CommandSourceStack> context) throws ArnSyntaxException {
+        String string = StringArgumentType.getString(context, name);
+        Enum<?> constant = lookup.find(string);
+        if (constant != null) return constant;
 
         String s = parameter.getAnnotation(CommandArgument.class).value();
-        if (s.isEmpty()) s = enumClass.getSimpleName();
-        String string = StringArgumentType.getString(context, getName(parameter));
-        try {
-            return Enum.valueOf(enumClass.getEnumConstants()[0].getClass(), string.toUpperCase(Locale.ENGLISH));
-        } catch (IllegalArgumentException e) {
-            throw new ArnSyntaxException("'" + string + "' is not a member of '" + s + "'");
-        } catch (NullPointerException e) {
-            Bukkit.getConsoleSender().sendMessage(ChatColor.RED + "ARN-ERROR");
-            Bukkit.getConsoleSender().sendMessage(enumClass.toString());
-            Bukkit.getConsoleSender().sendMessage(s);
-            Bukkit.getConsoleSender().sendMessage(string);
-            throw new RuntimeException(new ArnCommandException(
-                    "There is something wrong with HndEnumArg. Please report this issue to github: https://github.com/efekos/Arn",
-                    e));
-        }
+        throw new ArnSyntaxException("'" + string + (s.isEmpty() ? notMemberSuffix : "' is not a member of '" + s + "'"));
     }
 }
@@ -52,7 +52,12 @@ public class HndFinePositionArg implements PaperHndResolver {
 
     @Override
     public FinePosition resolve(Parameter parameter, PaperCommandMethod method, CommandContext<CommandSourceStack> context) throws ArnSyntaxException {
-        FinePositionResolver resolver = context.getArgument(getName(parameter), FinePositionResolver.class);
+        return resolve(parameter, getName(parameter), method, context);
+    }
+
+    @Override
+    public FinePosition resolve(Parameter parameter, String name, PaperCommandMethod method, CommandContext<CommandSourceStack> context) throws ArnSyntaxException {
+        FinePositionResolver resolver = context.getArgument(name, FinePositionResolver.class);
         try {
             return resolver.resolve(context.getSource());
         } catch (CommandSyntaxException e) {
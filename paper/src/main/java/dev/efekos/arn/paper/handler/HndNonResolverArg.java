@@ -53,7 +53,12 @@ public final class HndNonResolverArg implements PaperHndResolver {
 
     @Override
     public Object resolve(Parameter parameter, PaperCommandMethod method, CommandContext<CommandSourceStack> context) throws ArnSyntaxException {
-        return context.getArgument(getName(parameter), clazz);
+        return resolve(parameter, getName(parameter), method, context);
+    }
+
+    @Override
+    public Object resolve(Parameter parameter, String name, PaperCommandMethod method, CommandContext<CommandSourceStack> context) throws ArnSyntaxException {
+        return context.getArgument(name, clazz);
     }
 
 }
@@ -50,8 +50,13 @@ public final class HndPlayerArg implements PaperHndResolver {
 
     @Override
     public Object resolve(Parameter parameter, PaperCommandMethod method, CommandContext<CommandSourceStack> context) throws ArnSyntaxException {
+        return resolve(parameter, getName(parameter), method, context);
+    }
+
+    @Override
+    public Object resolve(Parameter parameter, String name, PaperCommandMethod method, CommandContext<CommandSourceStack> context) throws ArnSyntaxException {
         try {
-            return context.getArgument(getName(parameter), PlayerSelectorArgumentResolver.class).resolve(context.getSource()).getFirst();
+            return context.getArgument(name, PlayerSelectorArgumentResolver.class).resolve(context.getSource()).getFirst();
         } catch (CommandSyntaxException e) {
             throw new ArnSyntaxException(e.getMessage());
         }
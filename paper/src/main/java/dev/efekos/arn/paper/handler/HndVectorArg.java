@@ -51,8 +51,13 @@ public final class HndVectorArg implements PaperHndResolver {
 
     @Override
     public Location resolve(Parameter parameter, PaperCommandMethod method, CommandContext<CommandSourceStack> context) throws ArnSyntaxException {
+        return resolve(parameter, getName(parameter), method, context);
+    }
+
+    @Override
+    public Location resolve(Parameter parameter, String name, PaperCommandMethod method, CommandContext<CommandSourceStack> context) throws ArnSyntaxException {
         try {
-            return context.getArgument(getName(parameter), FinePositionResolver.class).resolve(context.getSource()).toLocation(context.getSource().getLocation().getWorld());
+            return context.getArgument(name, FinePositionResolver.class).resolve(context.getSource()).toLocation(context.getSource().getLocation().getWorld());
         } catch (CommandSyntaxException e) {
             throw new ArnSyntaxException(e.getMessage());
         }
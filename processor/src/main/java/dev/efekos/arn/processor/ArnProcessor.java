@@ -0,0 +1,390 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.arn.processor;
+
+import dev.efekos.arn.common.CommandAnnotationLiteral;
+import dev.efekos.arn.common.annotation.Command;
+import dev.efekos.arn.common.annotation.CommandArgument;
+import dev.efekos.arn.common.annotation.Container;
+import dev.efekos.arn.common.annotation.CustomArgument;
+import dev.efekos.arn.common.annotation.ExceptionHandler;
+import dev.efekos.arn.common.annotation.Helper;
+import dev.efekos.arn.common.base.BaseArnConfigurer;
+import dev.efekos.arn.common.base.BaseCustomArgumentType;
+import dev.efekos.arn.common.exception.ArnSyntaxException;
+import dev.efekos.arn.common.index.GeneratedArnIndex;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.regex.Pattern;
+
+/**
+ * An annotation processor that validates command handler methods at compile time and generates a
+ * {@link GeneratedArnIndex} for the project. When the generated index is present, Arn doesn't scan the classpath while
+ * running.
+ * <p>
+ * The index is generated in the package given with the {@code -Aarn.package} option. If the option isn't present, the
+ * package of the class that extends {@code JavaPlugin} is used, and if there isn't one either, the common package of
+ * every container is used. That package must be the package of the main class passed to
+ * {@link dev.efekos.arn.common.base.ArnInstance#run(Class, Object)} for Arn to find the index. The index is written in
+ * the first round that finds a container or an extension, or in the first round if there is a previous index, so it
+ * is still processed by javac like any other source.
+ * <p>
+ * Incremental builds only pass changed sources to javac, so the index is merged with the one written by the previous
+ * compilation. Containers and extensions of the previous index that weren't recompiled are kept as long as their
+ * classes still exist and still are containers or extensions, and its package is used if no other package is found.
+ * <p>
+ * Which parameters count as the sender of a command depends on the platform, given with the {@code -Aarn.platform}
+ * option as {@code spigot} or {@code paper}. If the option isn't present, the platform is {@code paper} when
+ * {@code arn-paper} is on the classpath, and {@code spigot} otherwise.
+ *
+ * @author efekos
+ * @since 0.4
+ */
+@SupportedAnnotationTypes("*")
+@SupportedOptions({ArnProcessor.PACKAGE_OPTION, ArnProcessor.PLATFORM_OPTION})
+public final class ArnProcessor extends AbstractProcessor {
+
+    /**
+     * Name of the option used to set package of the generated index.
+     */
+    public static final String PACKAGE_OPTION = "arn.package";
+
+    /**
+     * Name of the option used to set the platform commands are validated for.
+     */
+    public static final String PLATFORM_OPTION = "arn.platform";
+
+    private static final String JAVA_PLUGIN = "org.bukkit.plugin.java.JavaPlugin";
+    private static final String PAPER_ARN = "dev.efekos.arn.paper.PaperArn";
+    private static final Set<String> SPIGOT_SENDER_CLASSES = Set.of("org.bukkit.command.CommandSender",
+            "org.bukkit.entity.Player", "org.bukkit.command.ConsoleCommandSender", "org.bukkit.command.BlockCommandSender");
+    private static final String COMMAND_SYNTAX_EXCEPTION = "com.mojang.brigadier.exceptions.CommandSyntaxException";
+    private static final Pattern LITERAL_PATTERN = Pattern.compile("^[a-z]+$");
+    private static final Pattern KEY_PATTERN = Pattern.compile("^([a-z0-9_.-]+:)?[a-z0-9_./-]+$");
+
+    private final Set<TypeElement> containers = new LinkedHashSet<>();
+    private final Set<TypeElement> extensions = new LinkedHashSet<>();
+    private final List<ExecutableElement> handlerMethods = new ArrayList<>();
+    private String mainPackage;
+    private Boolean paper;
+    private boolean indexWritten;
+    private String previousPackage;
+    private final List<String> previousContainers = new ArrayList<>();
+    private final List<String> previousExtensions = new ArrayList<>();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        readPreviousIndex();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) return false;
+
+        int found = containers.size() + extensions.size();
+        for (Element element : roundEnv.getRootElements())
+            if (element instanceof TypeElement type) visit(type);
+        boolean changed = containers.size() + extensions.size() != found;
+
+        if (indexWritten) {
+            if (changed)
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "Containers generated by other "
+                        + "annotation processors won't be in " + GeneratedArnIndex.SIMPLE_NAME + ", because it was already written.");
+            return false;
+        }
+        // With a previous index, the first round always rewrites it, dropping entries that are gone.
+        if (!changed && previousPackage == null) return false;
+        writeIndex();
+        indexWritten = true;
+        return false;
+    }
+
+    private void visit(TypeElement type) {
+        scan(type);
+        for (Element enclosed : type.getEnclosedElements())
+            if (enclosed instanceof TypeElement nested) visit(nested);
+    }
+
+    private void scan(TypeElement type) {
+        if (mainPackage == null && extendsJavaPlugin(type)) mainPackage = packageOf(type);
+
+        boolean container = type.getAnnotation(Container.class) != null;
+        if (container) containers.add(type);
+        if (type.getKind() == ElementKind.CLASS && (isSubtype(type, BaseArnConfigurer.class) || isSubtype(type, BaseCustomArgumentType.class)))
+            extensions.add(type);
+
+        if (type.getAnnotation(Helper.class) != null && !container)
+            warn(type, type.getQualifiedName() + " is annotated with Helper, but isn't a Container.");
+        CustomArgument customArgument = type.getAnnotation(CustomArgument.class);
+        if (customArgument != null && type.getKind() == ElementKind.ENUM) checkCustomArgument(type, customArgument);
+
+        for (Element enclosed : type.getEnclosedElements()) {
+            if (!(enclosed instanceof ExecutableElement method) || method.getKind() != ElementKind.METHOD) continue;
+
+            Command command = method.getAnnotation(Command.class);
+            boolean exceptionHandler = method.getAnnotation(ExceptionHandler.class) != null;
+            if (command == null && !exceptionHandler) continue;
+
+            if (!container) {
+                warn(method, "Method '" + method.getSimpleName() + "' of " + type.getQualifiedName()
+                        + " won't be registered because the class isn't a Container.");
+                continue;
+            }
+            if (command != null) checkCommand(method, command);
+            handlerMethods.add(method);
+        }
+    }
+
+    private void checkCommand(ExecutableElement method, Command command) {
+        if (!method.getModifiers().contains(Modifier.PUBLIC))
+            warn(method, "Handler method '" + method.getSimpleName() + "' for command '" + command.value()
+                    + "' won't be registered because it isn't public.");
+
+        if (method.getReturnType().getKind() != TypeKind.INT && !returnsCompletionStage(method))
+            error(method, "Handler method '" + method.getSimpleName() + "' for command '" + command.value()
+                    + "' does not return 'int' or 'CompletionStage<Integer>'");
+
+        for (TypeMirror thrown : method.getThrownTypes()) {
+            String name = processingEnv.getTypeUtils().erasure(thrown).toString();
+            if (!name.equals(ArnSyntaxException.class.getCanonicalName()) && !name.equals(COMMAND_SYNTAX_EXCEPTION))
+                error(method, "Handler methods are only allowed to throw " + COMMAND_SYNTAX_EXCEPTION + ", or "
+                        + ArnSyntaxException.class.getCanonicalName() + " '" + method.getSimpleName() + "' for command '"
+                        + command.value() + "' throws " + name);
+        }
+
+        long senders = method.getParameters().stream().filter(this::isSenderParameter).count();
+        if (senders > 1)
+            error(method, "Handler method '" + method.getSimpleName() + "' for command '" + command.value()
+                    + "' must contain maximum one parameter that is a CommandSender.");
+
+        for (String s : command.value().split("\\" + CommandAnnotationLiteral.SEPARATOR_CHAR_STRING)) {
+            CommandAnnotationLiteral literal = CommandAnnotationLiteral.parse(s);
+            if (literal.getOffset() < 0)
+                error(method, "Command '" + command.value() + "' has a literal with a negative offset value.");
+            if (!LITERAL_PATTERN.matcher(literal.getLiteral()).matches())
+                error(method, "Literal '" + literal.getLiteral() + "' of command '" + command.value()
+                        + "' has an illegal character.");
+        }
+    }
+
+    /**
+     * Mirrors {@code isSenderParameter} of the engine of the platform. Paper treats every parameter that isn't a
+     * {@link CommandArgument} as the sender, while Spigot only treats the exact sender types it can inject.
+     */
+    private boolean isSenderParameter(VariableElement parameter) {
+        if (parameter.getAnnotation(CommandArgument.class) != null) return false;
+        if (isPaper()) return true;
+        String name = processingEnv.getTypeUtils().erasure(parameter.asType()).toString();
+        return SPIGOT_SENDER_CLASSES.contains(name);
+    }
+
+    private boolean isPaper() {
+        if (paper == null) {
+            String platform = processingEnv.getOptions().get(PLATFORM_OPTION);
+            paper = platform != null ? platform.equalsIgnoreCase("paper")
+                    : processingEnv.getElementUtils().getTypeElement(PAPER_ARN) != null;
+        }
+        return paper;
+    }
+
+    private boolean returnsCompletionStage(ExecutableElement method) {
+        if (!(method.getReturnType() instanceof DeclaredType returnType)) return false;
+        if (!isSubtype((TypeElement) returnType.asElement(), CompletionStage.class)) return false;
+        if (returnType.getTypeArguments().size() != 1) return true;
+
+        TypeMirror argument = returnType.getTypeArguments().get(0);
+        if (argument instanceof WildcardType wildcard) {
+            if (wildcard.getExtendsBound() == null) return true;
+            argument = wildcard.getExtendsBound();
+        }
+        String name = processingEnv.getTypeUtils().erasure(argument).toString();
+        return name.equals(Integer.class.getCanonicalName()) || name.equals(Number.class.getCanonicalName())
+                || name.equals(Object.class.getCanonicalName());
+    }
+
+    private void checkCustomArgument(TypeElement type, CustomArgument customArgument) {
+        if (!KEY_PATTERN.matcher(customArgument.value()).matches())
+            error(type, "CustomArgument value of " + type.getQualifiedName() + " is not a valid namespaced key.");
+
+        List<VariableElement> constants = type.getEnclosedElements().stream()
+                .filter(element -> element.getKind() == ElementKind.ENUM_CONSTANT)
+                .map(VariableElement.class::cast).toList();
+        if (constants.isEmpty())
+            error(type, type.getQualifiedName() + " must have at least one constant to be a CustomArgument.");
+        for (VariableElement constant : constants) {
+            String name = constant.getSimpleName().toString();
+            if (!name.toUpperCase(Locale.ENGLISH).equals(name))
+                error(constant, type.getQualifiedName()
+                        + " can't have constants with lower-case letters when annotated with CustomArgument.");
+        }
+    }
+
+    private void readPreviousIndex() {
+        CharSequence content;
+        try {
+            FileObject file = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", IndexWriter.ENTRIES);
+            content = file.getCharContent(true);
+        } catch (IOException e) {
+            return;
+        }
+        for (String line : content.toString().split("\n")) {
+            int space = line.indexOf(' ');
+            if (space == -1) continue;
+            String name = line.substring(space + 1).trim();
+            switch (line.substring(0, space)) {
+                case "package" -> previousPackage = name;
+                case "container" -> previousContainers.add(name);
+                case "extension" -> previousExtensions.add(name);
+                default -> {
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds containers and extensions of the previous index that weren't found in this compilation. Their handler
+     * methods were already validated when they were compiled, so they are only collected.
+     */
+    private void mergePreviousIndex() {
+        for (String name : previousContainers) {
+            TypeElement type = processingEnv.getElementUtils().getTypeElement(name);
+            if (type == null || containers.contains(type) || type.getAnnotation(Container.class) == null) continue;
+            containers.add(type);
+            for (Element enclosed : type.getEnclosedElements())
+                if (enclosed instanceof ExecutableElement method && method.getKind() == ElementKind.METHOD
+                        && (method.getAnnotation(Command.class) != null || method.getAnnotation(ExceptionHandler.class) != null))
+                    handlerMethods.add(method);
+        }
+        for (String name : previousExtensions) {
+            TypeElement type = processingEnv.getElementUtils().getTypeElement(name);
+            if (type == null || extensions.contains(type) || type.getKind() != ElementKind.CLASS) continue;
+            if (isSubtype(type, BaseArnConfigurer.class) || isSubtype(type, BaseCustomArgumentType.class))
+                extensions.add(type);
+        }
+    }
+
+    private void writeIndex() {
+        mergePreviousIndex();
+        String packageName = processingEnv.getOptions().get(PACKAGE_OPTION);
+        if (packageName == null) packageName = mainPackage;
+        if (packageName == null) packageName = previousPackage;
+        if (packageName == null) packageName = commonPackage();
+
+        IndexWriter writer = new IndexWriter(processingEnv, packageName);
+        try {
+            writer.write(containers, extensions, handlerMethods);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Could not write " + GeneratedArnIndex.SIMPLE_NAME + ": " + e.getMessage());
+        }
+    }
+
+    private String commonPackage() {
+        String[] common = null;
+        int length = 0;
+        for (TypeElement type : containers) {
+            String[] parts = packageOf(type).split("\\.");
+            if (common == null) {
+                common = parts;
+                length = parts.length;
+                continue;
+            }
+            int i = 0;
+            while (i < length && i < parts.length && common[i].equals(parts[i])) i++;
+            length = i;
+        }
+        return common == null ? "" : String.join(".", List.of(common).subList(0, length));
+    }
+
+    private boolean extendsJavaPlugin(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        while (superclass instanceof DeclaredType declared) {
+            TypeElement element = (TypeElement) declared.asElement();
+            if (element.getQualifiedName().contentEquals(JAVA_PLUGIN)) return true;
+            superclass = element.getSuperclass();
+        }
+        return false;
+    }
+
+    private boolean isSubtype(TypeElement type, Class<?> clazz) {
+        TypeElement base = processingEnv.getElementUtils().getTypeElement(clazz.getCanonicalName());
+        if (base == null) return false;
+        return processingEnv.getTypeUtils().isAssignable(processingEnv.getTypeUtils().erasure(type.asType()),
+                processingEnv.getTypeUtils().erasure(base.asType()));
+    }
+
+    private String packageOf(TypeElement type) {
+        return processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private void warn(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, message, element);
+    }
+
+}
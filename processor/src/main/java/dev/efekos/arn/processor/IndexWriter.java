@@ -0,0 +1,239 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.arn.processor;
+
+import dev.efekos.arn.common.index.GeneratedArnIndex;
+import dev.efekos.arn.common.invoke.MethodInvoker;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Writes source of the {@link GeneratedArnIndex} class, and the {@link #ENTRIES} resource the next compilation merges
+ * its index with.
+ *
+ * @author efekos
+ * @since 0.4
+ */
+final class IndexWriter {
+
+    /**
+     * Path of the resource that lists the package and entries of the last generated index, relative to the class
+     * output. Each line is {@code package}, {@code container} or {@code extension}, followed by a space and a name.
+     */
+    static final String ENTRIES = "META-INF/arn/" + GeneratedArnIndex.SIMPLE_NAME + ".list";
+
+    private final ProcessingEnvironment env;
+    private final String packageName;
+
+    IndexWriter(ProcessingEnvironment env, String packageName) {
+        this.env = env;
+        this.packageName = packageName;
+    }
+
+    void write(Collection<TypeElement> containers, Collection<TypeElement> extensions,
+               List<ExecutableElement> methods) throws IOException {
+        String className = packageName.isEmpty() ? GeneratedArnIndex.SIMPLE_NAME : packageName + "." + GeneratedArnIndex.SIMPLE_NAME;
+        List<Element> origins = new ArrayList<>(containers);
+        origins.addAll(extensions);
+        JavaFileObject file = env.getFiler().createSourceFile(className, origins.toArray(new Element[0]));
+
+        StringBuilder builder = new StringBuilder();
+        if (!packageName.isEmpty()) builder.append("package ").append(packageName).append(";\n\n");
+        builder.append("/**\n * Generated by arn-processor. Do not edit.\n */\n");
+        builder.append("public final class ").append(GeneratedArnIndex.SIMPLE_NAME).append(" implements ")
+                .append(GeneratedArnIndex.class.getCanonicalName()).append(" {\n\n");
+
+        builder.append("    private static final java.util.Set<Class<?>> CONTAINERS = ");
+        appendClassSet(builder, containers);
+        builder.append("    private static final java.util.Set<Class<?>> EXTENSIONS = ");
+        appendClassSet(builder, extensions);
+        builder.append("    private static final java.util.Map<String, ").append(MethodInvoker.class.getCanonicalName())
+                .append("> INVOKERS = new java.util.HashMap<>();\n\n");
+
+        builder.append("    static {\n");
+        for (ExecutableElement method : methods) appendInvoker(builder, method);
+        builder.append("    }\n\n");
+
+        builder.append("    private static Class<?> load(String name) {\n")
+                .append("        try {\n")
+                .append("            return Class.forName(name, false, ").append(GeneratedArnIndex.SIMPLE_NAME).append(".class.getClassLoader());\n")
+                .append("        } catch (ClassNotFoundException e) {\n")
+                .append("            throw new IllegalStateException(e);\n")
+                .append("        }\n")
+                .append("    }\n\n");
+
+        appendGetter(builder, "java.util.Set<Class<?>>", "getContainers", "CONTAINERS");
+        appendGetter(builder, "java.util.Set<Class<?>>", "getExtensions", "EXTENSIONS");
+        appendGetter(builder, "java.util.Map<String, " + MethodInvoker.class.getCanonicalName() + ">", "getInvokers", "java.util.Collections.unmodifiableMap(INVOKERS)");
+        builder.append("}\n");
+
+        try (Writer writer = file.openWriter()) {
+            writer.write(builder.toString());
+        }
+
+        StringBuilder entries = new StringBuilder("package ").append(packageName).append('\n');
+        for (TypeElement container : containers) entries.append("container ").append(container.getQualifiedName()).append('\n');
+        for (TypeElement extension : extensions) entries.append("extension ").append(extension.getQualifiedName()).append('\n');
+        FileObject entriesFile = env.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", ENTRIES, origins.toArray(new Element[0]));
+        try (Writer writer = entriesFile.openWriter()) {
+            writer.write(entries.toString());
+        }
+    }
+
+    private void appendClassSet(StringBuilder builder, Collection<TypeElement> types) {
+        builder.append("java.util.Collections.unmodifiableSet(new java.util.LinkedHashSet<>(java.util.Arrays.<Class<?>>asList(");
+        Iterator<TypeElement> iterator = types.iterator();
+        while (iterator.hasNext()) {
+            TypeElement type = iterator.next();
+            builder.append("\n            ");
+            if (isAccessible(type))
+                builder.append(type.getQualifiedName()).append(".class");
+            else
+                builder.append("load(\"").append(env.getElementUtils().getBinaryName(type)).append("\")");
+            if (iterator.hasNext()) builder.append(',');
+        }
+        builder.append(")));\n");
+    }
+
+    private void appendGetter(StringBuilder builder, String type, String name, String value) {
+        builder.append("    @Override\n")
+                .append("    public ").append(type).append(' ').append(name).append("() {\n")
+                .append("        return ").append(value).append(";\n")
+                .append("    }\n\n");
+    }
+
+    private void appendInvoker(StringBuilder builder, ExecutableElement method) {
+        TypeElement owner = (TypeElement) method.getEnclosingElement();
+        if (!isAccessible(owner) || !isAccessible(method)) return;
+        for (VariableElement parameter : method.getParameters())
+            if (!isAccessible(parameter.asType())) return;
+
+        StringBuilder key = new StringBuilder(env.getElementUtils().getBinaryName(owner)).append('#')
+                .append(method.getSimpleName()).append('(');
+        StringBuilder call = new StringBuilder();
+        if (method.getModifiers().contains(Modifier.STATIC))
+            call.append(owner.getQualifiedName());
+        else
+            call.append("((").append(owner.getQualifiedName()).append(") target)");
+        call.append('.').append(method.getSimpleName()).append('(');
+
+        for (int i = 0; i < method.getParameters().size(); i++) {
+            TypeMirror type = env.getTypeUtils().erasure(method.getParameters().get(i).asType());
+            if (i != 0) {
+                key.append(',');
+                call.append(", ");
+            }
+            key.append(runtimeName(type));
+            String cast = sourceName(type);
+            if (!cast.equals(Object.class.getCanonicalName())) call.append('(').append(cast).append(") ");
+            call.append("args[").append(i).append(']');
+        }
+        key.append(')');
+        call.append(')');
+
+        builder.append("        INVOKERS.put(\"").append(key).append("\", (target, args) -> ");
+        if (method.getReturnType().getKind() == TypeKind.VOID)
+            builder.append("{\n            ").append(call).append(";\n            return null;\n        });\n");
+        else
+            builder.append(call).append(");\n");
+    }
+
+    /**
+     * Returns name of the type as it would be returned from {@link Class#getName()}.
+     */
+    private String runtimeName(TypeMirror type) {
+        if (type.getKind().isPrimitive()) return type.toString();
+        if (type instanceof ArrayType array) return "[" + descriptor(array.getComponentType());
+        return env.getElementUtils().getBinaryName((TypeElement) ((DeclaredType) type).asElement()).toString();
+    }
+
+    private String descriptor(TypeMirror type) {
+        return switch (type.getKind()) {
+            case BOOLEAN -> "Z";
+            case BYTE -> "B";
+            case CHAR -> "C";
+            case SHORT -> "S";
+            case INT -> "I";
+            case LONG -> "J";
+            case FLOAT -> "F";
+            case DOUBLE -> "D";
+            case ARRAY -> "[" + descriptor(((ArrayType) type).getComponentType());
+            default -> "L" + runtimeName(env.getTypeUtils().erasure(type)) + ";";
+        };
+    }
+
+    /**
+     * Returns the type to cast an argument to. Primitives are cast to their boxed types so unboxing happens right after.
+     */
+    private String sourceName(TypeMirror type) {
+        if (type.getKind().isPrimitive())
+            return env.getTypeUtils().boxedClass((PrimitiveType) type).getQualifiedName().toString();
+        return type.toString();
+    }
+
+    private boolean isAccessible(TypeMirror type) {
+        if (type.getKind().isPrimitive()) return true;
+        if (type instanceof ArrayType array) return isAccessible(array.getComponentType());
+        if (type instanceof DeclaredType declared) return isAccessible(declared.asElement());
+        return true;
+    }
+
+    /**
+     * Returns whether the element can be referenced from the generated class.
+     */
+    private boolean isAccessible(Element element) {
+        while (element != null && !(element instanceof PackageElement)) {
+            if (element.getModifiers().contains(Modifier.PRIVATE)) return false;
+            if (!element.getModifiers().contains(Modifier.PUBLIC) && !isInGeneratedPackage(element)) return false;
+            element = element.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private boolean isInGeneratedPackage(Element element) {
+        return env.getElementUtils().getPackageOf(element).getQualifiedName().contentEquals(packageName);
+    }
+
+}
@@ -0,0 +1,4 @@
+/**
+ * An annotation processor that validates handler methods and generates an index of the project at compile time.
+ */
+package dev.efekos.arn.processor;
@@ -27,18 +27,24 @@ package dev.efekos.arn.spigot;
 import com.mojang.brigadier.CommandDispatcher;
 import com.mojang.brigadier.builder.ArgumentBuilder;
 import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
 import com.mojang.brigadier.exceptions.CommandSyntaxException;
 import com.mojang.brigadier.exceptions.DynamicCommandExceptionType;
 import com.mojang.brigadier.exceptions.SimpleCommandExceptionType;
 import dev.efekos.arn.common.ArnFeature;
-import dev.efekos.arn.common.CommandAnnotationData;
 import dev.efekos.arn.common.CommandAnnotationLiteral;
 import dev.efekos.arn.common.annotation.*;
 import dev.efekos.arn.common.base.ArnInstance;
-import dev.efekos.arn.common.base.BaseArnConfigurer;
-import dev.efekos.arn.common.base.BaseCmdResolver;
-import dev.efekos.arn.common.base.BaseHndResolver;
+import dev.efekos.arn.common.base.BaseExceptionHandlerMethod;
+import dev.efekos.arn.common.diagnostics.DiagnosticLine;
+import dev.efekos.arn.common.engine.ArnEngine;
+import dev.efekos.arn.common.engine.CompiledCommand;
 import dev.efekos.arn.common.exception.*;
+import dev.efekos.arn.common.index.ClassIndex;
+import dev.efekos.arn.common.index.ContainerIndex;
+import dev.efekos.arn.common.index.ContainerRole;
+import dev.efekos.arn.common.metrics.ArnMetrics;
+import dev.efekos.arn.common.metrics.SlowCommandWatchdog;
 import dev.efekos.arn.spigot.face.CustomArgumentType;
 import dev.efekos.arn.spigot.face.SpArnConfig;
 import dev.efekos.arn.spigot.face.SpigotCmdResolver;
@@ -64,17 +70,14 @@ import org.bukkit.craftbukkit.v1_21_R1.CraftServer;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.plugin.java.JavaPlugin;
-import org.reflections.Reflections;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.util.*;
-import java.util.function.Predicate;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 /**
  * Main class of Arn, used to run command scanning and registration. Handles
@@ -86,7 +89,7 @@ import java.util.stream.IntStream;
  * @author efekos
  * @since 0.1
  */
-public final class SpigotArn extends SpigotArnMethodDump implements ArnInstance {
+public final class SpigotArn implements ArnInstance {
 
     /**
      * An exception type thrown by command handler when a command is blocked to
@@ -120,18 +123,17 @@ public final class SpigotArn extends SpigotArnMethodDump implements ArnInstance
             .asList(CommandSender.class, Player.class, ConsoleCommandSender.class, BlockCommandSender.class);
     private static final List<ChatColor> ARGUMENT_DISPLAY_COLORS = Arrays.asList(ChatColor.AQUA, ChatColor.YELLOW,
             ChatColor.GREEN, ChatColor.LIGHT_PURPLE, ChatColor.GOLD);
-    private final List<SpigotHndResolver> handlerMethodArgumentResolvers = new ArrayList<>();
-    private final List<SpigotCmdResolver> commandArgumentResolvers = new ArrayList<>();
-    private final List<SpigotCommandHandlerMethod> handlers = new ArrayList<>();
-    private final ExceptionMap<SpigotCmdResolver> commandArgumentResolverExceptions = new ExceptionMap<>();
-    private final ExceptionMap<SpigotHndResolver> handlerExceptions = new ExceptionMap<>();
-    private final Map<String, Object> containerInstanceMap = new HashMap<>();
-    private final List<Class<?>> exclusions = new ArrayList<>();
+    private final Engine engine = new Engine();
+    private final Set<Class<?>> exclusions = new HashSet<>();
     private boolean configured;
+    private Plugin plugin;
+    private String diagnosticsLiteral;
+    private String diagnosticsPermission;
 
     /**
      * Main method used to run Arn. Scans every class under the package of
-     * {@code mainClass}, applies {@link SpArnConfig}s
+     * {@code mainClass}, or uses the index generated by {@code arn-processor}
+     * if there is one, applies {@link SpArnConfig}s
      * to base configuration, and registers found
      * {@link SpigotCommandHandlerMethod}s.
      *
@@ -139,43 +141,52 @@ public final class SpigotArn extends SpigotArnMethodDump implements ArnInstance
      *                  make it your {@link JavaPlugin} class.
      */
     public <T> void run(Class<T> mainClass, T instance) {
-        if (!(instance instanceof Plugin))
+        if (!(instance instanceof Plugin plugin))
             throw new IllegalStateException("Arn#run was called with a " + mainClass.getName() + " instance which isn't a Plugin.");
-        Reflections reflections = new Reflections(mainClass.getPackage().getName());
+        this.plugin = plugin;
+        if (engine.getWatchdog().getLogFile() == null)
+            engine.getWatchdog().setLogFile(plugin.getDataFolder().toPath().resolve("arn-slow-commands.log"));
+        ClassIndex classIndex = engine.phase("indexClasses", () -> ClassIndex.of(mainClass));
+        ContainerIndex index = engine.index(classIndex, exclusions, SpArnConfig.class, CustomArgumentType.class, false);
 
         try {
-            createContainerInstances(reflections);
-
-            if (!configured)
-                configure();
-            scanConfigurers(reflections);
-
-            scanEnumArguments(reflections);
-            scanCustomArguments(reflections);
-            scanExceptionHandlerMethods(reflections);
-
-            scanCommands(reflections);
-            registerCommands();
-            registerHelpers(reflections);
+            engine.phase("createContainerInstances", () -> engine.createContainerProviders(index));
+
+            engine.phase("configure", () -> {
+                if (!configured)
+                    configure();
+                scanConfigurers(index);
+            });
+
+            engine.phase("scanEnumArguments", () -> scanEnumArguments(index));
+            engine.phase("scanCustomArguments", () -> scanCustomArguments(index));
+            engine.phase("scanExceptionHandlerMethods", () -> engine.scanExceptionHandlerMethods(index));
+
+            engine.phase("scanCommands", () -> engine.scanCommands(index));
+            engine.phase("registerCommands", this::registerCommands);
+            engine.phase("registerHelpers", () -> registerHelpers(index));
+            if (diagnosticsLiteral != null)
+                engine.phase("registerDiagnostics", this::registerDiagnostics);
         } catch (Exception e) {
             throw new RuntimeException("Unexpected SpigotArn error. Please report this to github: https://github.com/efekos/Arn", e);
         }
     }
 
-    private void scanCustomArguments(Reflections reflections) {
-        for (Class<?> customArgumentClass : reflections.getTypesAnnotatedWith(Container.class).stream()
-                .filter(aClass -> !exclusions.contains(aClass) && Arrays.asList(aClass.getInterfaces()).contains(CustomArgumentType.class)).toList()) {
-            CustomArgumentType<?> o = (CustomArgumentType<?>) containerInstanceMap.get(customArgumentClass.getName());
+    private static CommandDispatcher<CommandSourceStack> getDispatcher() {
+        return ((CraftServer) Bukkit.getServer()).getHandle().getServer().getCommands().getDispatcher();
+    }
+
+    private void scanCustomArguments(ContainerIndex index) {
+        for (Class<?> customArgumentClass : index.get(ContainerRole.CUSTOM_ARGUMENT)) {
+            CustomArgumentType<?> o = (CustomArgumentType<?>) engine.getContainerInstance(customArgumentClass);
 
-            handlerMethodArgumentResolvers.add(new HndCustomArg(o));
-            commandArgumentResolvers.add(new CmdCustomArg(o));
+            engine.getHandlerResolvers().add(new HndCustomArg(o));
+            engine.getCommandResolvers().add(new CmdCustomArg(o));
         }
     }
 
-    private void scanEnumArguments(Reflections reflections) throws ArnException {
-        List<Class<?>> classes = reflections.getTypesAnnotatedWith(Container.class).stream()
-                .filter(aClass -> aClass.isAnnotationPresent(CustomArgument.class) && aClass.isEnum() && !exclusions.contains(aClass)).toList();
-        for (Class<?> aClass : classes) {
+    private void scanEnumArguments(ContainerIndex index) throws ArnException {
+        for (Class<?> aClass : index.get(ContainerRole.ENUM_ARGUMENT)) {
             Class<? extends Enum<?>> enumC = (Class<? extends Enum<?>>) aClass;
 
             CustomArgument customArgument = enumC.getAnnotation(CustomArgument.class);
@@ -191,298 +202,38 @@ public final class SpigotArn extends SpigotArnMethodDump implements ArnInstance
                     .anyMatch(constant -> !constant.name().toUpperCase(Locale.ENGLISH).equals(constant.name())))
                 throw SpigotArnExceptions.CA_LOWERCASE.create(enumC);
 
-            handlerMethodArgumentResolvers.add(new HndEnumArg(enumC));
-            commandArgumentResolvers.add(new CmdEnumArg(enumC));
-        }
-    }
-
-    private void createContainerInstances(Reflections reflections) throws ArnException {
-        for (Class<?> clazz : reflections.getTypesAnnotatedWith(Container.class)) {
-            if (clazz.isInterface() || clazz.isAnnotation() || clazz.isEnum())
-                continue;
-
-            try {
-                Constructor<?> ctor = clazz.getConstructor();
-                ctor.setAccessible(true);
-                Object o = ctor.newInstance();
-                containerInstanceMap.put(clazz.getName(), o);
-            } catch (Exception e) {
-                throw SpigotArnExceptions.CONTAINER_INSTANTIATE.create(clazz, e);
-            }
+            engine.getHandlerResolvers().add(new HndEnumArg(enumC));
+            engine.getCommandResolvers().add(new CmdEnumArg(enumC));
         }
     }
 
     private void configure() {
         SpigotArnConfig configurer = new SpigotArnConfig();
-        configurer.addArgumentResolvers(commandArgumentResolvers);
-        configurer.addHandlerMethodArgumentResolvers(handlerMethodArgumentResolvers);
-        configurer.putArgumentResolverExceptions(commandArgumentResolverExceptions);
-        configurer.putHandlerMethodArgumentResolverExceptions(handlerExceptions);
+        configurer.addArgumentResolvers(engine.getCommandResolvers());
+        configurer.addHandlerMethodArgumentResolvers(engine.getHandlerResolvers());
+        configurer.putArgumentResolverExceptions(engine.getCommandResolverExceptions());
+        configurer.putHandlerMethodArgumentResolverExceptions(engine.getHandlerResolverExceptions());
         configured = true;
     }
 
-    private void scanConfigurers(Reflections reflections) {
-        List<Class<?>> configurers = reflections.getTypesAnnotatedWith(Container.class).stream()
-                .filter(SpArnConfig.class::isAssignableFrom).toList();
-
-        for (Class<?> configurer : configurers) {
-            if (exclusions.contains(configurer)) continue;
-            Class<? extends SpArnConfig> clazz = (Class<? extends SpArnConfig>) configurer;
-
-            SpArnConfig configurerInstance = (SpArnConfig) containerInstanceMap.get(clazz.getName());
-            configurerInstance.addHandlerMethodArgumentResolvers(handlerMethodArgumentResolvers);
-            configurerInstance.addArgumentResolvers(commandArgumentResolvers);
-            configurerInstance.putArgumentResolverExceptions(commandArgumentResolverExceptions);
-            configurerInstance.putHandlerMethodArgumentResolverExceptions(handlerExceptions);
-        }
-    }
-
-    private void scanCommands(Reflections reflections) throws ArnException {
-        Set<Class<?>> containers = reflections.getTypesAnnotatedWith(Container.class);
-
-        for (Class<?> container : containers)
-            if (!exclusions.contains(container))
-                for (Method method : container.getMethods())
-                    if (method.isAnnotationPresent(Command.class))
-                        command(method.getAnnotation(Command.class), method);
-
-    }
-
-    private void command(Command annotation, Method method) throws ArnException {
-        // Errors
-        if (!method.getReturnType().equals(int.class))
-            throw SpigotArnExceptions.HM_NOT_INT.create(method, annotation);
-        List<Class<?>> exceptions = Arrays.asList(method.getExceptionTypes());
-        if (exceptions.size() > 1 || (!exceptions.isEmpty() && exceptions.stream().anyMatch(
-                aClass -> !aClass.equals(CommandSyntaxException.class) && !aClass.equals(ArnSyntaxException.class))))
-            throw SpigotArnExceptions.HM_THROWS.create(method, annotation, exceptions);
-
-        long count = Arrays.stream(method.getParameters())
-                .filter(parameter -> REQUIRED_SENDER_CLASSES.contains(parameter.getType())
-                        && !parameter.isAnnotationPresent(CommandArgument.class))
-                .count();
-        if (count > 1)
-            throw SpigotArnExceptions.HM_MULTIPLE_SENDERS.create(method, annotation);
-
-        for (Parameter parameter : method.getParameters()) {
-            if (handlerMethodArgumentResolvers.stream().noneMatch(car -> car.isApplicable(parameter)))
-                throw SpigotArnExceptions.HM_NOT_APPLICABLE.create(method, annotation, parameter);
-            if (handlerMethodArgumentResolvers.stream()
-                    .anyMatch(car -> car.isApplicable(parameter) && car.requireCommandArgument())
-                    && commandArgumentResolvers.stream().noneMatch(car -> car.isApplicable(parameter)))
-                throw SpigotArnExceptions.HM_NOT_APPLICABLE.create(method, annotation, parameter);
+    private void scanConfigurers(ContainerIndex index) {
+        for (Class<?> configurer : index.get(ContainerRole.CONFIGURER)) {
+            SpArnConfig configurerInstance = (SpArnConfig) engine.getContainerInstance(configurer);
+            configurerInstance.addHandlerMethodArgumentResolvers(engine.getHandlerResolvers());
+            configurerInstance.addArgumentResolvers(engine.getCommandResolvers());
+            configurerInstance.putArgumentResolverExceptions(engine.getCommandResolverExceptions());
+            configurerInstance.putHandlerMethodArgumentResolverExceptions(engine.getHandlerResolverExceptions());
         }
-
-        SpigotCommandHandlerMethod commandHandlerMethod = createHandlerMethod(annotation, method);
-
-        if (handlers.stream().anyMatch(method1 -> commandHandlerMethod.getSignature().equals(method1.getSignature())))
-            throw SpigotArnExceptions.HM_DUPLICATE.create(commandHandlerMethod);
-        for (CommandAnnotationLiteral literal : commandHandlerMethod.getAnnotationData().getLiterals()) {
-            if (literal.getOffset() < 0)
-                throw SpigotArnExceptions.LITERAL_NEG_OFFSET.create(annotation);
-            if (!literal.getLiteral().matches("^[a-z]+$"))
-                throw SpigotArnExceptions.LITERAL_ILLEGAL.create(literal, annotation);
-        }
-        handlers.add(commandHandlerMethod);
-    }
-
-    private SpigotCommandHandlerMethod createHandlerMethod(Command annotation, Method method) throws ArnException {
-        SpigotCommandHandlerMethod commandHandlerMethod = new SpigotCommandHandlerMethod();
-
-        commandHandlerMethod.setCommand(annotation.value());
-        commandHandlerMethod.setMethod(method);
-        commandHandlerMethod.setParameters(Arrays.asList(method.getParameters()));
-        commandHandlerMethod.setBlocksCommandBlock(isApplied(method, BlockCommandBlock.class));
-        commandHandlerMethod.setBlocksConsole(isApplied(method, BlockConsole.class));
-        commandHandlerMethod.setBlocksPlayer(isApplied(method, BlockPlayer.class));
-
-        if (isApplied(method, OnlyAllowSender.class))
-            commandHandlerMethod.setIncludedSender(getApplied(method, OnlyAllowSender.class).value());
-        else if (isApplied(method, BlockSenderTypes.class))
-            for (Class<?> aClass : getApplied(method, BlockSenderTypes.class).value())
-                commandHandlerMethod.addSenderBlock(aClass);
-
-        CommandAnnotationData baseAnnData = new CommandAnnotationData(annotation);
-
-        if (baseAnnData.getDescription().isEmpty())
-            baseAnnData.setDescription(Optional.ofNullable(getApplied(method, Description.class)).map(Description::value).orElse("No description provided."));
-        if (baseAnnData.getPermission().isEmpty())
-            baseAnnData.setPermission(Optional.ofNullable(getApplied(method, Permission.class)).map(Permission::value).orElse(""));
-
-        ArrayList<CommandAnnotationLiteral> literals = new ArrayList<>();
-        for (String s : annotation.value().split("\\" + CommandAnnotationLiteral.SEPARATOR_CHAR_STRING))
-            literals.add(CommandAnnotationLiteral.parse(s));
-
-        baseAnnData.setLiterals(literals);
-
-        commandHandlerMethod.setAnnotationData(baseAnnData);
-
-        ArrayList<SpigotCmdResolver> argumentResolvers = new ArrayList<>();
-        ArrayList<SpigotHndResolver> handlerMethodResolvers = new ArrayList<>();
-        StringBuilder signature = buildSignature(method, handlerMethodResolvers, argumentResolvers);
-
-        commandHandlerMethod.setArgumentResolvers(argumentResolvers);
-        commandHandlerMethod.setHandlerMethodResolvers(handlerMethodResolvers);
-
-        commandHandlerMethod.setSignature(signature.toString());
-        return commandHandlerMethod;
-    }
-
-    private StringBuilder buildSignature(Method method, ArrayList<SpigotHndResolver> handlerMethodResolvers,
-                                         ArrayList<SpigotCmdResolver> argumentResolvers) throws ArnCommandException {
-        StringBuilder signatureBuilder = new StringBuilder();
-        signatureBuilder.append(method.getAnnotation(Command.class).value());
-        signatureBuilder.append("(");
-        for (int i = 0; i < method.getParameters().length; i++) {
-            Parameter parameter = method.getParameters()[i];
-
-            if (i != 0)
-                signatureBuilder.append(",");
-            signatureBuilder.append(parameter.getType().getName());
-            SpigotHndResolver handlerMethodArgumentResolver = this.handlerMethodArgumentResolvers
-                    .stream()
-                    .filter(resolver -> resolver.isApplicable(parameter) && handlerExceptions.get(resolver.getClass())
-                            .stream().noneMatch(parameter::isAnnotationPresent))
-                    .findFirst().orElseThrow(() -> SpigotArnExceptions.HM_NO_RESOLVER_ACCESS
-                            .create(signatureBuilder.append(")").toString()));
-
-            handlerMethodResolvers.add(handlerMethodArgumentResolver);
-
-            if (handlerMethodArgumentResolver.requireCommandArgument())
-                argumentResolvers.add(this.commandArgumentResolvers.stream()
-                        .filter(resolver -> resolver.isApplicable(parameter) && commandArgumentResolverExceptions
-                                .get(resolver.getClass()).stream().noneMatch(parameter::isAnnotationPresent))
-                        .findFirst().orElseThrow());
-            else
-                argumentResolvers.add(null);
-        }
-        signatureBuilder.append(")");
-        return signatureBuilder;
     }
 
     private void registerCommands() throws ArnException {
-        CommandDispatcher<CommandSourceStack> dispatcher = ((CraftServer) Bukkit.getServer()).getHandle().getServer()
-                .getCommands().getDispatcher();
-
-        for (SpigotCommandHandlerMethod method : handlers) {
-            try {
-                List<ArgumentBuilder<CommandSourceStack, ?>> nodes = new ArrayList<>();
-
-                // initialize lists
-                List<CommandAnnotationLiteral> literals = method.getAnnotationData().getLiterals();
-
-                List<Integer> indexesToDelete = new ArrayList<>();
-
-                for (int i = 0; i < method.getArgumentResolvers().size(); i++)
-                    if (method.getArgumentResolvers().get(i) == null)
-                        indexesToDelete.add(i);
-
-                List<SpigotCmdResolver> nonnullResolvers = IntStream.range(0, method.getArgumentResolvers().size())
-                        .filter(i -> !indexesToDelete.contains(i)).mapToObj(method.getArgumentResolvers()::get)
-                        .toList();
-                List<Parameter> parametersClone = IntStream.range(0, method.getArgumentResolvers().size())
-                        .filter(i -> !indexesToDelete.contains(i)).mapToObj(method.getParameters()::get).toList();
-
-                Predicate<CommandSourceStack> senderPredicate = commandSourceStack -> (method.getIncludedSender()==null || method.getIncludedSender()==commandSourceStack.getBukkitSender().getClass()) &&
-                        (!method.isBlocksCommandBlock() || !(commandSourceStack.getBukkitSender() instanceof BlockCommandSender)) &&
-                        (!method.isBlocksPlayer() || !(commandSourceStack.getBukkitSender() instanceof Player)) &&
-                        (!method.isBlocksConsole() || !(commandSourceStack.getBukkitSender() instanceof ConsoleCommandSender)) &&
-                        !method.doesBlockSender(commandSourceStack.getBukkitSender());
-                Predicate<CommandSourceStack> permissionPredicate = method.getAnnotationData().getPermission().isEmpty() ? s -> true : s -> s.getBukkitSender().hasPermission(method.getAnnotationData().getPermission());
-
-                for (CommandAnnotationLiteral lit : literals)
-                    if (lit.getOffset() == 0) {
-                        nodes.add(Commands.literal(lit.getLiteral()).requires(permissionPredicate).requires(senderPredicate));
-                    }
-
-                for (int i = 0; i < nonnullResolvers.size(); i++) {
-                    SpigotCmdResolver resolver = nonnullResolvers.get(i);
-
-                    if (i != 0)
-                        for (CommandAnnotationLiteral lit : literals)
-                            if (lit.getOffset() == i)
-                                nodes.add(Commands.literal(lit.getLiteral()).requires(permissionPredicate));
-
-                    ArgumentBuilder<CommandSourceStack, ?> builder = resolver.apply(parametersClone.get(i));
-                    if (builder != null)
-                        nodes.add(builder);
-                }
-
-                for (CommandAnnotationLiteral lit : literals)
-                    if (lit.getOffset() == nonnullResolvers.size() && lit.getOffset() != 0)
-                        nodes.add(Commands.literal(lit.getLiteral()));
-                com.mojang.brigadier.Command<CommandSourceStack> lambda = createCommandLambda(method);
-
-                LiteralArgumentBuilder<CommandSourceStack> builder = (LiteralArgumentBuilder<CommandSourceStack>) chainArgumentBuilders(
-                        nodes, lambda, method.getAnnotationData());
-
-                dispatcher.register(builder);
-            } catch (Exception e) {
-                Bukkit.getConsoleSender().sendMessage(method.toString());
-                throw SpigotArnExceptions.COMMAND_REGISTER_ERROR.create(method, e);
-            }
-
-        }
+        engine.buildCommands();
+        engine.register(getDispatcher());
     }
 
-    private com.mojang.brigadier.Command<CommandSourceStack> createCommandLambda(SpigotCommandHandlerMethod method) {
-        return commandContext -> {
-
-            CommandSender sender = commandContext.getSource().getBukkitSender();
-            if (!method.getAnnotationData().getPermission().isEmpty()
-                    && !sender.hasPermission(method.getAnnotationData().getPermission()))
-                return 1;
-            if (method.isBlocksConsole() && sender instanceof ConsoleCommandSender)
-                throw CONSOLE_BLOCKED_EXCEPTION.create();
-            if (method.isBlocksCommandBlock() && sender instanceof BlockCommandSender)
-                throw CM_BLOCKED_EXCEPTION.create();
-            if (method.isBlocksPlayer() && sender instanceof Player)
-                throw PLAYER_BLOCKED_EXCEPTION.create();
-
-            List<Object> objects;
-            try {
-                objects = fillResolvers(method, commandContext);
-            } catch (ArnSyntaxException e) {
-                throw SpigotArn.GENERIC.create(e.getMessage());
-            }
-
-            Method actualMethodToInvoke = method.getMethod();
-
-            try {
-                actualMethodToInvoke.setAccessible(true);
-                return (int) actualMethodToInvoke.invoke(
-                        containerInstanceMap.get(method.getMethod().getDeclaringClass().getName()), objects.toArray());
-            } catch (InvocationTargetException e) {
-                Throwable ex = e.getCause();
-                if (ex == null)
-                    return 1;
-                if (ex instanceof CommandSyntaxException)
-                    throw (CommandSyntaxException) ex;
-                else if (ex instanceof ArnSyntaxException)
-                    throw GENERIC.create(ex.getMessage());
-                else
-                    try {
-
-                        Optional<SpigotExceptionHandlerMethod> handlerMethodOptional = findHandlerMethod(ex);
-                        if (handlerMethodOptional.isEmpty())
-                            throw GENERIC.create(ex.getMessage());
-                        SpigotExceptionHandlerMethod handlerMethod = handlerMethodOptional.get();
-                        List<Object> list = handlerMethod.fillParams(ex, commandContext);
-                        Method actualHandlerMethod = handlerMethod.getMethod();
-                        actualHandlerMethod.invoke(
-                                containerInstanceMap.get(actualHandlerMethod.getDeclaringClass().getName()),
-                                list.toArray());
-
-                    } catch (Exception exe) {
-                        throw GENERIC.create(exe.getMessage());
-                    }
-                return 1;
-            } catch (IllegalAccessException e) {
-                SpigotArnExceptions.COMMAND_NO_ACCESS.create().initCause(e).printStackTrace();
-                return 1;
-            }
-
-        };
+    private void registerDiagnostics() {
+        getDispatcher().register(engine.buildDiagnostics(diagnosticsLiteral, diagnosticsPermission,
+                plugin.getDataFolder().toPath().resolve("arn-resolvers.csv")));
     }
 
     @Override
@@ -491,13 +242,11 @@ public final class SpigotArn extends SpigotArnMethodDump implements ArnInstance
         return this;
     }
 
-    private void registerHelpers(Reflections reflections) {
-        CommandDispatcher<CommandSourceStack> dispatcher = ((CraftServer) Bukkit.getServer()).getHandle().getServer()
-                .getCommands().getDispatcher();
+    private void registerHelpers(ContainerIndex index) {
+        CommandDispatcher<CommandSourceStack> dispatcher = getDispatcher();
 
-        for (Class<?> helperClass : reflections.getTypesAnnotatedWith(Container.class).stream()
-                .filter(aClass -> !exclusions.contains(aClass) && aClass.isAnnotationPresent(Helper.class)).toList()) {
-            List<SpigotCommandHandlerMethod> associatedHelperMethods = handlers.stream().filter(
+        for (Class<?> helperClass : index.get(ContainerRole.HELPER)) {
+            List<SpigotCommandHandlerMethod> associatedHelperMethods = engine.getHandlers().stream().filter(
                             commandHandlerMethod -> commandHandlerMethod.getMethod().getDeclaringClass().equals(helperClass))
                     .toList();
 
@@ -554,16 +303,134 @@ public final class SpigotArn extends SpigotArnMethodDump implements ArnInstance
             List<ArgumentBuilder<CommandSourceStack, ?>> builders = literals.stream()
                     .map(commandAnnotationLiteral -> Commands.literal(commandAnnotationLiteral.getLiteral()))
                     .collect(Collectors.toList());
-            ArgumentBuilder<CommandSourceStack, ?> finalNode = chainArgumentBuilders(builders, lambda, null);
+            ArgumentBuilder<CommandSourceStack, ?> finalNode = ArnEngine.chain(builders, lambda);
 
             dispatcher.register(((LiteralArgumentBuilder<CommandSourceStack>) finalNode));
         }
 
     }
 
+    @Override
+    public ArnInstance setAsyncExecutor(Executor executor) {
+        engine.setAsyncExecutor(executor);
+        return this;
+    }
+
+    @Override
+    public Executor getAsyncExecutor() {
+        return engine.getAsyncExecutor();
+    }
+
+    @Override
+    public ArnMetrics getMetrics() {
+        return engine.getMetrics();
+    }
+
+    @Override
+    public SlowCommandWatchdog getWatchdog() {
+        return engine.getWatchdog();
+    }
+
+    @Override
+    public ArnInstance enableDiagnostics(String literal, String permission) {
+        this.diagnosticsLiteral = Objects.requireNonNull(literal, "literal");
+        this.diagnosticsPermission = Objects.requireNonNull(permission, "permission");
+        return this;
+    }
+
     @Override
     public List<ArnFeature> getSupportedFeatures() {
         return List.of(ArnFeature.ALL);
     }
 
-}
\ No newline at end of file
+    /**
+     * {@link ArnEngine} of Spigot, executing commands against {@link CommandSourceStack}s of the server.
+     */
+    private final class Engine extends ArnEngine<CommandSourceStack, SpigotCommandHandlerMethod, SpigotCmdResolver, SpigotHndResolver> {
+
+        private Engine() {
+            super("Spigot", Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("arn-async-", 0).factory()));
+        }
+
+        @Override
+        protected SpigotCommandHandlerMethod createHandlerMethod() {
+            return new SpigotCommandHandlerMethod();
+        }
+
+        @Override
+        protected BaseExceptionHandlerMethod<CommandContext<CommandSourceStack>> createExceptionHandlerMethod(Method method, Class<? extends Exception> exceptionClass) {
+            return new SpigotExceptionHandlerMethod(method, exceptionClass);
+        }
+
+        @Override
+        protected Object getSender(CommandSourceStack source) {
+            return source.getBukkitSender();
+        }
+
+        @Override
+        protected String getSenderName(CommandSourceStack source) {
+            return source.getBukkitSender().getName();
+        }
+
+        @Override
+        protected boolean hasPermission(CommandSourceStack source, String permission) {
+            return source.getBukkitSender().hasPermission(permission);
+        }
+
+        @Override
+        protected void runSync(Runnable task) {
+            Bukkit.getScheduler().runTask(plugin, task);
+        }
+
+        @Override
+        protected void sendError(CommandSourceStack source, String message) {
+            source.getBukkitSender().sendMessage(ChatColor.RED + message);
+        }
+
+        @Override
+        protected void sendDiagnostic(CommandSourceStack source, DiagnosticLine line) {
+            TextComponent component = new TextComponent(line.text());
+            component.setColor((switch (line.style()) {
+                case HEADER -> ChatColor.GOLD;
+                case TEXT -> ChatColor.WHITE;
+                case MUTED -> ChatColor.GRAY;
+                case WARNING -> ChatColor.RED;
+            }).asBungee());
+            if (line.hover() != null)
+                component.setHoverEvent(new HoverEvent(HoverEvent.Action.SHOW_TEXT, new Text(line.hover())));
+            source.getBukkitSender().spigot().sendMessage(component);
+        }
+
+        @Override
+        protected boolean isSenderParameter(Parameter parameter) {
+            return REQUIRED_SENDER_CLASSES.contains(parameter.getType()) && !parameter.isAnnotationPresent(CommandArgument.class);
+        }
+
+        @Override
+        protected int classifySender(Object sender) {
+            if (sender instanceof ConsoleCommandSender) return CompiledCommand.BLOCKS_CONSOLE;
+            if (sender instanceof BlockCommandSender) return CompiledCommand.BLOCKS_COMMAND_BLOCK;
+            if (sender instanceof Player) return CompiledCommand.BLOCKS_PLAYER;
+            return 0;
+        }
+
+        @Override
+        protected void checkSender(CompiledCommand<CommandSourceStack, SpigotCommandHandlerMethod> command, CommandSourceStack source) throws CommandSyntaxException {
+            if (command.senderFlags() == 0) return;
+            switch (classifySender(source.getBukkitSender()) & command.senderFlags()) {
+                case CompiledCommand.BLOCKS_CONSOLE -> throw CONSOLE_BLOCKED_EXCEPTION.create();
+                case CompiledCommand.BLOCKS_COMMAND_BLOCK -> throw CM_BLOCKED_EXCEPTION.create();
+                case CompiledCommand.BLOCKS_PLAYER -> throw PLAYER_BLOCKED_EXCEPTION.create();
+                default -> {
+                }
+            }
+        }
+
+        @Override
+        protected CommandSyntaxException syntaxException(String message) {
+            return SpigotArn.GENERIC.create(message);
+        }
+
+    }
+
+}
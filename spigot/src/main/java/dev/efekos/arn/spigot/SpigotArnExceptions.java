@@ -86,12 +86,12 @@ public final class SpigotArnExceptions {
     // Container
     /**
      * Thrown when a method annotated with {@link Command} doesn't return
-     * {@code int}.
+     * {@code int} or a {@link java.util.concurrent.CompletionStage} of {@link Integer}.
      */
     public static final Dynamic2ArnExceptionType<ArnCommandException, Method, Command> HM_NOT_INT = new Dynamic2ArnExceptionType<>(
             (o, o2) -> new ArnCommandException(
                     "Handler method '" + o.getName() + "' for command '" + o2.value()
-                            + "' does not return 'int'"));
+                            + "' does not return 'int' or 'CompletionStage<Integer>'"));
 
     // Handler Method
     /**
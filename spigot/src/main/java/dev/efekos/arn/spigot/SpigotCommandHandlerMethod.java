@@ -25,10 +25,12 @@
 package dev.efekos.arn.spigot;
 
 import dev.efekos.arn.common.annotation.Command;
-import dev.efekos.arn.common.base.BaseCommandHandlerMethod;
+import dev.efekos.arn.common.engine.BrigadierCommandHandlerMethod;
 import dev.efekos.arn.spigot.face.SpigotCmdResolver;
 import dev.efekos.arn.spigot.face.SpigotHndResolver;
 
+import net.minecraft.commands.CommandSourceStack;
+
 import java.lang.reflect.Method;
 
 /**
@@ -39,5 +41,6 @@ import java.lang.reflect.Method;
  * @author efekos
  * @since 0.1
  */
-public final class SpigotCommandHandlerMethod extends BaseCommandHandlerMethod<SpigotCmdResolver, SpigotHndResolver> {
-}
\ No newline at end of file
+public final class SpigotCommandHandlerMethod extends BrigadierCommandHandlerMethod<CommandSourceStack, SpigotCommandHandlerMethod,
+        SpigotCmdResolver, SpigotHndResolver> {
+}
@@ -28,12 +28,8 @@ import com.mojang.brigadier.context.CommandContext;
 import dev.efekos.arn.common.base.BaseExceptionHandlerMethod;
 import net.minecraft.commands.CommandSourceStack;
 import org.bukkit.command.CommandSender;
-import org.bukkit.entity.Player;
 
 import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
-import java.util.ArrayList;
-import java.util.List;
 
 public final class SpigotExceptionHandlerMethod extends BaseExceptionHandlerMethod<CommandContext<CommandSourceStack>> {
 
@@ -41,19 +37,14 @@ public final class SpigotExceptionHandlerMethod extends BaseExceptionHandlerMeth
         super(method, exceptionClass);
     }
 
-    public List<Object> fillParams(Throwable ex, CommandContext<CommandSourceStack> commandContext) {
-        List<Object> objects = new ArrayList<>();
-
-        for (Parameter parameter : method.getParameters()) {
-            if (Player.class.isAssignableFrom(parameter.getType())) objects.add(commandContext.getSource().getPlayer());
-            else if (CommandSender.class.isAssignableFrom(parameter.getType()))
-                objects.add(commandContext.getSource().getBukkitSender());
-            else if (parameter.getType().isAssignableFrom(exceptionClass) || exceptionClass.equals(parameter.getType()))
-                objects.add(ex);
-            else objects.add(null);
-        }
+    @Override
+    protected boolean isSenderParameter(Class<?> type) {
+        return CommandSender.class.isAssignableFrom(type);
+    }
 
-        return objects;
+    @Override
+    protected Object getSender(CommandContext<CommandSourceStack> commandContext) {
+        return commandContext.getSource().getBukkitSender();
     }
 
 }
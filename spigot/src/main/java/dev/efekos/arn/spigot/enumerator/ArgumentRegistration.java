@@ -26,9 +26,12 @@ package dev.efekos.arn.spigot.enumerator;
 
 import com.mojang.brigadier.arguments.*;
 import com.mojang.brigadier.context.CommandContext;
+import dev.efekos.arn.common.exception.ArnSyntaxException;
 import dev.efekos.arn.spigot.face.CustomArgumentType;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.arguments.ResourceLocationArgument;
+import org.bukkit.command.CommandSender;
+import org.bukkit.craftbukkit.v1_21_R1.util.CraftNamespacedKey;
 
 import java.util.function.Supplier;
 
@@ -112,6 +115,29 @@ public enum ArgumentRegistration {
         return getFunction.get(context, name);
     }
 
+    /**
+     * Parses value of the argument using the typed parse method of {@code type} that matches this registration type,
+     * so values parsed by Brigadier are never converted to a {@link String} and parsed again.
+     *
+     * @param type    The custom argument type to parse the value with.
+     * @param context Context of the command.
+     * @param name    Name of the argument.
+     * @param <T>     Type of the custom argument.
+     * @return Parsed object.
+     * @throws ArnSyntaxException If {@code type} can't parse the value.
+     * @since 0.4
+     */
+    public <T> T parse(CustomArgumentType<T> type, CommandContext<CommandSourceStack> context, String name) throws ArnSyntaxException {
+        CommandSender sender = context.getSource().getBukkitSender();
+        return switch (this) {
+            case ID -> type.parseKey(sender, CraftNamespacedKey.fromMinecraft(ResourceLocationArgument.getId(context, name)));
+            case WORD, STRING -> type.parse(sender, StringArgumentType.getString(context, name));
+            case INTEGER -> type.parseInteger(sender, IntegerArgumentType.getInteger(context, name));
+            case DOUBLE -> type.parseDouble(sender, DoubleArgumentType.getDouble(context, name));
+            case BOOLEAN -> type.parseBoolean(sender, BoolArgumentType.getBool(context, name));
+        };
+    }
+
     /**
      * A small interface used to specify getter functions of {@link ArgumentRegistration} types.
      *
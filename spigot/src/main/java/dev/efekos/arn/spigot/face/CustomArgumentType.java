@@ -25,8 +25,10 @@
 package dev.efekos.arn.spigot.face;
 
 import dev.efekos.arn.common.base.BaseCustomArgumentType;
+import dev.efekos.arn.common.exception.ArnSyntaxException;
 import dev.efekos.arn.spigot.SpigotArn;
 import dev.efekos.arn.spigot.enumerator.ArgumentRegistration;
+import org.bukkit.NamespacedKey;
 import org.bukkit.command.CommandSender;
 
 
@@ -39,4 +41,61 @@ import org.bukkit.command.CommandSender;
  * @since 0.3.1
  */
 public interface CustomArgumentType<T> extends BaseCustomArgumentType<T, ArgumentRegistration, CommandSender> {
-}
\ No newline at end of file
+
+    /**
+     * Parses an argument registered with {@link ArgumentRegistration#INTEGER}. Override this method to use the parsed value
+     * directly. Converts the value to a {@link String} and calls {@link #parse} by default.
+     *
+     * @param sender Sender who sent this argument.
+     * @param arg    The argument value.
+     * @return Parsed object.
+     * @throws ArnSyntaxException If {@code arg} is invalid.
+     * @since 0.4
+     */
+    default T parseInteger(CommandSender sender, int arg) throws ArnSyntaxException {
+        return parse(sender, Integer.toString(arg));
+    }
+
+    /**
+     * Parses an argument registered with {@link ArgumentRegistration#DOUBLE}. Override this method to use the parsed value
+     * directly. Converts the value to a {@link String} and calls {@link #parse} by default.
+     *
+     * @param sender Sender who sent this argument.
+     * @param arg    The argument value.
+     * @return Parsed object.
+     * @throws ArnSyntaxException If {@code arg} is invalid.
+     * @since 0.4
+     */
+    default T parseDouble(CommandSender sender, double arg) throws ArnSyntaxException {
+        return parse(sender, Double.toString(arg));
+    }
+
+    /**
+     * Parses an argument registered with {@link ArgumentRegistration#BOOLEAN}. Override this method to use the parsed value
+     * directly. Converts the value to a {@link String} and calls {@link #parse} by default.
+     *
+     * @param sender Sender who sent this argument.
+     * @param arg    The argument value.
+     * @return Parsed object.
+     * @throws ArnSyntaxException If {@code arg} is invalid.
+     * @since 0.4
+     */
+    default T parseBoolean(CommandSender sender, boolean arg) throws ArnSyntaxException {
+        return parse(sender, Boolean.toString(arg));
+    }
+
+    /**
+     * Parses an argument registered with {@link ArgumentRegistration#ID}. Override this method to use the parsed value
+     * directly. Converts the value to a {@link String} and calls {@link #parse} by default.
+     *
+     * @param sender Sender who sent this argument.
+     * @param arg    The argument value.
+     * @return Parsed object.
+     * @throws ArnSyntaxException If {@code arg} is invalid.
+     * @since 0.4
+     */
+    default T parseKey(CommandSender sender, NamespacedKey arg) throws ArnSyntaxException {
+        return parse(sender, arg.toString());
+    }
+
+}
@@ -27,10 +27,13 @@ package dev.efekos.arn.spigot.resolver.command;
 import com.mojang.brigadier.builder.ArgumentBuilder;
 import dev.efekos.arn.common.annotation.CommandArgument;
 import dev.efekos.arn.common.base.BaseCmdResolver;
+import dev.efekos.arn.common.jfr.SuggestionEvent;
+import dev.efekos.arn.common.resolver.CustomArgumentSuggestions;
 import dev.efekos.arn.spigot.face.CustomArgumentType;
 import dev.efekos.arn.spigot.face.SpigotCmdResolver;
 import net.minecraft.commands.Commands;
 import net.minecraft.commands.SharedSuggestionProvider;
+import org.bukkit.command.CommandSender;
 
 import java.lang.reflect.Parameter;
 
@@ -67,8 +70,12 @@ public final class CmdCustomArg implements SpigotCmdResolver {
     @Override
     public ArgumentBuilder apply(Parameter parameter) {
         String s = parameter.getAnnotation(CommandArgument.class).value();
-        return Commands.argument(s.isEmpty() ? parameter.getName() : s, customArgumentType.getRegistration().getFunc()).suggests((context, builder) ->
-                SharedSuggestionProvider.suggest(customArgumentType.suggest(context.getSource().getBukkitSender()), builder)
-        );
+        String name = s.isEmpty() ? parameter.getName() : s;
+        return Commands.argument(name, customArgumentType.getRegistration().getFunc()).suggests((context, builder) -> {
+            CommandSender sender = context.getSource().getBukkitSender();
+            return SuggestionEvent.record(customArgumentType.getType(), name, sender, () ->
+                    CustomArgumentSuggestions.get(customArgumentType, sender, builder.getRemainingLowerCase())
+                            .thenCompose(suggestions -> SharedSuggestionProvider.suggest(suggestions, builder)));
+        });
     }
 }
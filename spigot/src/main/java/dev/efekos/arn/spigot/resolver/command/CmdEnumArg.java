@@ -30,15 +30,13 @@ import com.mojang.brigadier.builder.ArgumentBuilder;
 import dev.efekos.arn.common.annotation.CommandArgument;
 import dev.efekos.arn.common.annotation.CustomArgument;
 import dev.efekos.arn.common.base.BaseCmdResolver;
+import dev.efekos.arn.common.jfr.SuggestionEvent;
+import dev.efekos.arn.common.resolver.PrefixIndex;
 import dev.efekos.arn.spigot.SpigotArn;
 import dev.efekos.arn.spigot.face.SpigotCmdResolver;
 import net.minecraft.commands.Commands;
 
 import java.lang.reflect.Parameter;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Locale;
-import java.util.stream.Collectors;
 
 /**
  * An implementation of {@link BaseCmdResolver}. Resolves custom {@link Enum} arguments that is annotated with
@@ -50,7 +48,7 @@ import java.util.stream.Collectors;
 public final class CmdEnumArg implements SpigotCmdResolver {
 
     private final Class<? extends Enum<?>> enumClass;
-    private final List<String> constants;
+    private final PrefixIndex constants;
 
     /**
      * Creates a new enumerator resolver. This class is not a static argument resolver. It is dynamically added by
@@ -60,7 +58,8 @@ public final class CmdEnumArg implements SpigotCmdResolver {
      */
     public CmdEnumArg(Class<? extends Enum<?>> enumClass) {
         this.enumClass = enumClass;
-        this.constants = Arrays.stream(enumClass.getEnumConstants()).map(Enum::name).map(s -> s.toLowerCase(Locale.ENGLISH)).collect(Collectors.toList());
+        CustomArgument annotation = enumClass.getAnnotation(CustomArgument.class);
+        this.constants = PrefixIndex.ofEnum(enumClass, annotation == null ? 0 : annotation.suggestionLimit());
     }
 
     /**
@@ -77,10 +76,8 @@ public final class CmdEnumArg implements SpigotCmdResolver {
     @Override
     public ArgumentBuilder apply(Parameter parameter) {
         String s = parameter.getAnnotation(CommandArgument.class).value();
-        return Commands.argument(s.isEmpty() ? parameter.getName() : s, StringArgumentType.word()).suggests((context, builder) -> {
-            for (String constant : constants)
-                if (constant.startsWith(builder.getRemainingLowerCase())) builder.suggest(constant);
-            return builder.buildFuture();
-        });
+        String name = s.isEmpty() ? parameter.getName() : s;
+        return Commands.argument(name, StringArgumentType.word()).suggests((context, builder) ->
+                SuggestionEvent.record(enumClass, name, context.getSource().getBukkitSender(), () -> constants.suggest(builder)));
     }
 }
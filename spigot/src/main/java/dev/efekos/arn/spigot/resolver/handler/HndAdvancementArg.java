@@ -79,10 +79,18 @@ public final class HndAdvancementArg implements SpigotHndResolver {
     @Override
     public Advancement resolve(Parameter parameter, SpigotCommandHandlerMethod method,
                                CommandContext<CommandSourceStack> context) throws ArnSyntaxException {
-        String s = parameter.getAnnotation(CommandArgument.class).value();
+        return resolve(parameter, getName(parameter), method, context);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Advancement resolve(Parameter parameter, String name, SpigotCommandHandlerMethod method,
+                               CommandContext<CommandSourceStack> context) throws ArnSyntaxException {
         try {
             AdvancementHolder advancement = ResourceLocationArgument.getAdvancement(context,
-                    s.isEmpty() ? parameter.getName() : s);
+                    name);
             return new CraftAdvancement(advancement);
         } catch (CommandSyntaxException e) {
             throw new ArnSyntaxException(e.getMessage());
@@ -73,10 +73,18 @@ public final class HndAttributeArg implements SpigotHndResolver {
     @Override
     public Attribute resolve(Parameter parameter, SpigotCommandHandlerMethod method,
                              CommandContext<CommandSourceStack> context) throws ArnSyntaxException {
-        String s = parameter.getAnnotation(CommandArgument.class).value();
+        return resolve(parameter, getName(parameter), method, context);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Attribute resolve(Parameter parameter, String name, SpigotCommandHandlerMethod method,
+                             CommandContext<CommandSourceStack> context) throws ArnSyntaxException {
         Holder.Reference<net.minecraft.world.entity.ai.attributes.Attribute> holder;
         try {
-            holder = ResourceArgument.getAttribute(context, s.isEmpty() ? parameter.getName() : s);
+            holder = ResourceArgument.getAttribute(context, name);
         } catch (CommandSyntaxException e) {
             throw new ArnSyntaxException(e.getMessage());
         }
@@ -35,14 +35,10 @@ import dev.efekos.arn.spigot.face.SpigotHndResolver;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.arguments.ResourceArgument;
 import net.minecraft.core.Holder;
-import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.core.registries.Registries;
-import net.minecraft.resources.ResourceLocation;
 import org.bukkit.Material;
-import org.bukkit.NamespacedKey;
 
 import java.lang.reflect.Parameter;
-import java.util.Arrays;
 
 ;
 
@@ -76,17 +72,22 @@ public final class HndBlockArg implements SpigotHndResolver {
     @Override
     public Object resolve(Parameter parameter, SpigotCommandHandlerMethod method,
                           CommandContext<CommandSourceStack> context) throws ArnSyntaxException {
-        String s = parameter.getAnnotation(CommandArgument.class).value();
+        return resolve(parameter, getName(parameter), method, context);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object resolve(Parameter parameter, String name, SpigotCommandHandlerMethod method,
+                          CommandContext<CommandSourceStack> context) throws ArnSyntaxException {
         Holder.Reference<net.minecraft.world.level.block.Block> holder;
         try {
-            holder = ResourceArgument.getResource(context, s.isEmpty() ? parameter.getName() : s, Registries.BLOCK);
+            holder = ResourceArgument.getResource(context, name, Registries.BLOCK);
         } catch (CommandSyntaxException e) {
             throw new ArnSyntaxException(e.getMessage());
         }
-        ResourceLocation key = BuiltInRegistries.BLOCK.getKey(holder.value());
-        NamespacedKey blockKey = new NamespacedKey(key.getNamespace(), key.getPath());
-        return Arrays.stream(Material.values()).filter(material -> material.getKey().equals(blockKey)).findFirst()
-                .orElse(null);
+        return MaterialIndex.get(holder.key().location());
     }
 
     /**
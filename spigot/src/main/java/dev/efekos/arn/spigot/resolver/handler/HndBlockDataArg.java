@@ -78,8 +78,16 @@ public final class HndBlockDataArg implements SpigotHndResolver {
     @Override
     public BlockData resolve(Parameter parameter, SpigotCommandHandlerMethod method,
                              CommandContext<CommandSourceStack> context) throws ArnSyntaxException {
-        String s = parameter.getAnnotation(CommandArgument.class).value();
-        BlockInput tile = BlockStateArgument.getBlock(context, s.isEmpty() ? parameter.getName() : s);
+        return resolve(parameter, getName(parameter), method, context);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BlockData resolve(Parameter parameter, String name, SpigotCommandHandlerMethod method,
+                             CommandContext<CommandSourceStack> context) throws ArnSyntaxException {
+        BlockInput tile = BlockStateArgument.getBlock(context, name);
         BlockState state = tile.getState();
 
         return CraftBlockData.fromData(state);
@@ -67,8 +67,16 @@ public final class HndBooleanArg implements SpigotHndResolver {
     @Override
     public Object resolve(Parameter parameter, SpigotCommandHandlerMethod method,
                           CommandContext<CommandSourceStack> context) {
-        String s = parameter.getAnnotation(CommandArgument.class).value();
-        return BoolArgumentType.getBool(context, s.isEmpty() ? parameter.getName() : s);
+        return resolve(parameter, getName(parameter), method, context);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object resolve(Parameter parameter, String name, SpigotCommandHandlerMethod method,
+                          CommandContext<CommandSourceStack> context) {
+        return BoolArgumentType.getBool(context, name);
     }
 
     /**
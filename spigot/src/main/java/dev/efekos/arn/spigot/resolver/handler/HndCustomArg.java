@@ -78,11 +78,19 @@ public final class HndCustomArg implements SpigotHndResolver {
     /**
      * {@inheritDoc}
      */
+    @Override
     public Object resolve(Parameter parameter, SpigotCommandHandlerMethod method,
                           CommandContext<CommandSourceStack> context) throws ArnSyntaxException {
-        String s = parameter.getAnnotation(CommandArgument.class).value();
-        String string = customArgumentType.getRegistration().getV(context, s.isEmpty() ? parameter.getName() : s);
-        return customArgumentType.parse(context.getSource().getBukkitSender(), string);
+        return resolve(parameter, getName(parameter), method, context);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object resolve(Parameter parameter, String name, SpigotCommandHandlerMethod method,
+                          CommandContext<CommandSourceStack> context) throws ArnSyntaxException {
+        return customArgumentType.getRegistration().parse(customArgumentType, context, name);
     }
 
 }
@@ -74,10 +74,18 @@ public final class HndDimensionArg implements SpigotHndResolver {
     @Override
     public World resolve(Parameter parameter, SpigotCommandHandlerMethod method,
                          CommandContext<CommandSourceStack> context) throws ArnSyntaxException {
-        String s = parameter.getAnnotation(CommandArgument.class).value();
+        return resolve(parameter, getName(parameter), method, context);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public World resolve(Parameter parameter, String name, SpigotCommandHandlerMethod method,
+                         CommandContext<CommandSourceStack> context) throws ArnSyntaxException {
         ServerLevel world;
         try {
-            world = DimensionArgument.getDimension(context, s.isEmpty() ? parameter.getName() : s);
+            world = DimensionArgument.getDimension(context, name);
         } catch (CommandSyntaxException e) {
             throw new ArnSyntaxException(e.getMessage());
         }
@@ -66,8 +66,16 @@ public final class HndDoubleArg implements SpigotHndResolver {
     @Override
     public Object resolve(Parameter parameter, SpigotCommandHandlerMethod method,
                           CommandContext<CommandSourceStack> context) {
-        String s = parameter.getAnnotation(CommandArgument.class).value();
-        return DoubleArgumentType.getDouble(context, s.isEmpty() ? parameter.getName() : s);
+        return resolve(parameter, getName(parameter), method, context);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object resolve(Parameter parameter, String name, SpigotCommandHandlerMethod method,
+                          CommandContext<CommandSourceStack> context) {
+        return DoubleArgumentType.getDouble(context, name);
     }
 
     /**
@@ -74,10 +74,18 @@ public final class HndEffectTypeArg implements SpigotHndResolver {
     @Override
     public Object resolve(Parameter parameter, SpigotCommandHandlerMethod method,
                           CommandContext<CommandSourceStack> context) throws ArnSyntaxException {
-        String s = parameter.getAnnotation(CommandArgument.class).value();
+        return resolve(parameter, getName(parameter), method, context);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object resolve(Parameter parameter, String name, SpigotCommandHandlerMethod method,
+                          CommandContext<CommandSourceStack> context) throws ArnSyntaxException {
         Holder.Reference<MobEffect> f;
         try {
-            f = ResourceArgument.getMobEffect(context, s.isEmpty() ? parameter.getName() : s);
+            f = ResourceArgument.getMobEffect(context, name);
         } catch (CommandSyntaxException e) {
             throw new ArnSyntaxException(e.getMessage());
         }
@@ -71,10 +71,18 @@ public final class HndEnchantmentArg implements SpigotHndResolver {
     @Override
     public Object resolve(Parameter parameter, SpigotCommandHandlerMethod method,
                           CommandContext<CommandSourceStack> context) throws ArnSyntaxException {
-        String s = parameter.getAnnotation(CommandArgument.class).value();
+        return resolve(parameter, getName(parameter), method, context);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object resolve(Parameter parameter, String name, SpigotCommandHandlerMethod method,
+                          CommandContext<CommandSourceStack> context) throws ArnSyntaxException {
         Holder.Reference<net.minecraft.world.item.enchantment.Enchantment> enchantmentc = null;
         try {
-            enchantmentc = ResourceArgument.getEnchantment(context, s.isEmpty() ? parameter.getName() : s);
+            enchantmentc = ResourceArgument.getEnchantment(context, name);
         } catch (CommandSyntaxException e) {
             throw new ArnSyntaxException(e.getMessage());
         }
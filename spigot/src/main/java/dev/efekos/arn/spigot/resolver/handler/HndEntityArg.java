@@ -71,10 +71,18 @@ public final class HndEntityArg implements SpigotHndResolver {
     @Override
     public Entity resolve(Parameter parameter, SpigotCommandHandlerMethod method,
                           CommandContext<CommandSourceStack> context) throws ArnSyntaxException {
-        String s = parameter.getAnnotation(CommandArgument.class).value();
+        return resolve(parameter, getName(parameter), method, context);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Entity resolve(Parameter parameter, String name, SpigotCommandHandlerMethod method,
+                          CommandContext<CommandSourceStack> context) throws ArnSyntaxException {
         net.minecraft.world.entity.Entity entity;
         try {
-            entity = EntityArgument.getEntity(context, s.isEmpty() ? parameter.getName() : s);
+            entity = EntityArgument.getEntity(context, name);
         } catch (CommandSyntaxException e) {
             throw new ArnSyntaxException(e.getMessage());
         }
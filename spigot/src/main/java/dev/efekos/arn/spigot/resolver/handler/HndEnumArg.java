@@ -29,17 +29,14 @@ import com.mojang.brigadier.context.CommandContext;
 import dev.efekos.arn.common.annotation.CommandArgument;
 import dev.efekos.arn.common.annotation.CustomArgument;
 import dev.efekos.arn.common.base.BaseHndResolver;
-import dev.efekos.arn.common.exception.ArnCommandException;
 import dev.efekos.arn.common.exception.ArnSyntaxException;
+import dev.efekos.arn.common.resolver.EnumLookup;
 import dev.efekos.arn.spigot.SpigotCommandHandlerMethod;
 import dev.efekos.arn.spigot.face.SpigotHndResolver;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.arguments.ResourceArgument;
-import org.bukkit.Bukkit;
-import org.bukkit.ChatColor;
 
 import java.lang.reflect.Parameter;
-import java.util.Locale;
 
 ;
 
@@ -53,8 +50,24 @@ import java.util.Locale;
  */
 public final class HndEnumArg implements SpigotHndResolver {
 
+    /**
+     * A placeholder used to create {@link #unknownResourceMessage}.
+     */
+    private static final String INPUT_PLACEHOLDER = "\u0000";
+
     private final Class<? extends Enum<?>> enumClass;
 
+    /**
+     * Lookup table of the constants of {@link #enumClass}.
+     */
+    private final EnumLookup lookup;
+
+    /**
+     * Message of the exception thrown when an input isn't a constant of {@link #enumClass}, with
+     * {@link #INPUT_PLACEHOLDER} in place of the input.
+     */
+    private final String unknownResourceMessage;
+
     /**
      * Creates a new instance of this resolver.
      *
@@ -62,6 +75,9 @@ public final class HndEnumArg implements SpigotHndResolver {
      */
     public HndEnumArg(Class<? extends Enum<?>> enumClass) {
         this.enumClass = enumClass;
+        this.lookup = new EnumLookup(enumClass);
+        this.unknownResourceMessage = ResourceArgument.ERROR_UNKNOWN_RESOURCE.create(INPUT_PLACEHOLDER,
+                enumClass.getAnnotation(CustomArgument.class).value()).getMessage();
     }
 
     /**
@@ -86,22 +102,19 @@ public final class HndEnumArg implements SpigotHndResolver {
     @Override
     public Enum<?> resolve(Parameter parameter, SpigotCommandHandlerMethod method,
                            CommandContext<CommandSourceStack> context) throws ArnSyntaxException {
+        return resolve(parameter, getName(parameter), method, context);
+    }
 
-        String s = parameter.getAnnotation(CommandArgument.class).value();
-        String string = StringArgumentType.getString(context, s.isEmpty() ? parameter.getName() : s);
-        try {
-            return Enum.valueOf(enumClass.getEnumConstants()[0].getClass(), string.toUpperCase(Locale.ENGLISH));
-        } catch (IllegalArgumentException e) {
-            throw new ArnSyntaxException(ResourceArgument.ERROR_UNKNOWN_RESOURCE.create(string,
-                    enumClass.getAnnotation(CustomArgument.class).value()).getMessage());
-        } catch (NullPointerException e) {
-            Bukkit.getConsoleSender().sendMessage(ChatColor.RED + "ARN-ERROR");
-            Bukkit.getConsoleSender().sendMessage(enumClass.toString());
-            Bukkit.getConsoleSender().sendMessage(s);
-            Bukkit.getConsoleSender().sendMessage(string);
-            throw new RuntimeException(new ArnCommandException(
-                    "There is something wrong with HndEnumArg. Please report this issue to github: https://github.com/efekos/Arn",
-                    e));
-        }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Enum<?> resolve(Parameter parameter, String name, SpigotCommandHandlerMethod method,
+                           CommandContext<CommandSourceStack> context) throws ArnSyntaxException {
+        String string = StringArgumentType.getString(context, name);
+        Enum<?> constant = lookup.find(string);
+        if (constant == null)
+            throw new ArnSyntaxException(unknownResourceMessage.replace(INPUT_PLACEHOLDER, string));
+        return constant;
     }
 }
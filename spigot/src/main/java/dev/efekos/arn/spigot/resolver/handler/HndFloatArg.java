@@ -66,8 +66,16 @@ public final class HndFloatArg implements SpigotHndResolver {
     @Override
     public Object resolve(Parameter parameter, SpigotCommandHandlerMethod method,
                           CommandContext<CommandSourceStack> context) {
-        String s = parameter.getAnnotation(CommandArgument.class).value();
-        return FloatArgumentType.getFloat(context, s.isEmpty() ? parameter.getName() : s);
+        return resolve(parameter, getName(parameter), method, context);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object resolve(Parameter parameter, String name, SpigotCommandHandlerMethod method,
+                          CommandContext<CommandSourceStack> context) {
+        return FloatArgumentType.getFloat(context, name);
     }
 
     /**
@@ -70,10 +70,18 @@ public final class HndGameModeArg implements SpigotHndResolver {
     @Override
     public GameMode resolve(Parameter parameter, SpigotCommandHandlerMethod method,
                             CommandContext<CommandSourceStack> context) throws ArnSyntaxException {
-        String s = parameter.getAnnotation(CommandArgument.class).value();
+        return resolve(parameter, getName(parameter), method, context);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GameMode resolve(Parameter parameter, String name, SpigotCommandHandlerMethod method,
+                            CommandContext<CommandSourceStack> context) throws ArnSyntaxException {
         GameType gamemode;
         try {
-            gamemode = GameModeArgument.getGameMode(context, s.isEmpty() ? parameter.getName() : s);
+            gamemode = GameModeArgument.getGameMode(context, name);
         } catch (CommandSyntaxException e) {
             throw new ArnSyntaxException(e.getMessage());
         }
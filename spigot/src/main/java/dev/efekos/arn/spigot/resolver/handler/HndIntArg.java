@@ -66,8 +66,16 @@ public final class HndIntArg implements SpigotHndResolver {
     @Override
     public Integer resolve(Parameter parameter, SpigotCommandHandlerMethod method,
                            CommandContext<CommandSourceStack> context) {
-        String s = parameter.getAnnotation(CommandArgument.class).value();
-        return IntegerArgumentType.getInteger(context, s.isEmpty() ? parameter.getName() : s);
+        return resolve(parameter, getName(parameter), method, context);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Integer resolve(Parameter parameter, String name, SpigotCommandHandlerMethod method,
+                           CommandContext<CommandSourceStack> context) {
+        return IntegerArgumentType.getInteger(context, name);
     }
 
     /**
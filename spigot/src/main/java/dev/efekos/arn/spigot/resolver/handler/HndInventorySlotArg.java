@@ -69,8 +69,16 @@ public final class HndInventorySlotArg implements SpigotHndResolver {
     @Override
     public Integer resolve(Parameter parameter, SpigotCommandHandlerMethod method,
                            CommandContext<CommandSourceStack> context) {
-        String s = parameter.getAnnotation(CommandArgument.class).value();
-        return SlotArgument.getSlot(context, s.isEmpty() ? parameter.getName() : s);
+        return resolve(parameter, getName(parameter), method, context);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Integer resolve(Parameter parameter, String name, SpigotCommandHandlerMethod method,
+                           CommandContext<CommandSourceStack> context) {
+        return SlotArgument.getSlot(context, name);
     }
 
     /**
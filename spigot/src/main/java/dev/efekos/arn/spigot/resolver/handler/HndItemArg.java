@@ -35,14 +35,10 @@ import dev.efekos.arn.spigot.face.SpigotHndResolver;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.arguments.ResourceArgument;
 import net.minecraft.core.Holder;
-import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.core.registries.Registries;
-import net.minecraft.resources.ResourceLocation;
 import org.bukkit.Material;
-import org.bukkit.NamespacedKey;
 
 import java.lang.reflect.Parameter;
-import java.util.Arrays;
 
 ;
 
@@ -77,18 +73,22 @@ public final class HndItemArg implements SpigotHndResolver {
     @Override
     public Material resolve(Parameter parameter, SpigotCommandHandlerMethod method,
                             CommandContext<CommandSourceStack> context) throws ArnSyntaxException {
-        String s = parameter.getAnnotation(CommandArgument.class).value();
+        return resolve(parameter, getName(parameter), method, context);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Material resolve(Parameter parameter, String name, SpigotCommandHandlerMethod method,
+                            CommandContext<CommandSourceStack> context) throws ArnSyntaxException {
         Holder.Reference<net.minecraft.world.item.Item> itemc = null;
         try {
-            itemc = ResourceArgument.getResource(context, s.isEmpty() ? parameter.getName() : s, Registries.ITEM);
+            itemc = ResourceArgument.getResource(context, name, Registries.ITEM);
         } catch (CommandSyntaxException e) {
             throw new ArnSyntaxException(e.getMessage());
         }
-        net.minecraft.world.item.Item item = itemc.value();
-        ResourceLocation key = BuiltInRegistries.ITEM.getKey(item);
-        return Arrays.stream(Material.values())
-                .filter(material -> material.getKey().equals(new NamespacedKey(key.getNamespace(), key.getPath())))
-                .findFirst().orElse(null);
+        return MaterialIndex.get(itemc.key().location());
     }
 
     /**
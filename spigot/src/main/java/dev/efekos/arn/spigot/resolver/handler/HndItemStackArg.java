@@ -69,8 +69,16 @@ public final class HndItemStackArg implements SpigotHndResolver {
     @Override
     public org.bukkit.inventory.ItemStack resolve(Parameter parameter, SpigotCommandHandlerMethod method,
                                                   CommandContext<CommandSourceStack> context) throws ArnSyntaxException {
-        String s = parameter.getAnnotation(CommandArgument.class).value();
-        ItemInput itemc = ItemArgument.getItem(context, s.isEmpty() ? parameter.getName() : s);
+        return resolve(parameter, getName(parameter), method, context);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public org.bukkit.inventory.ItemStack resolve(Parameter parameter, String name, SpigotCommandHandlerMethod method,
+                                                  CommandContext<CommandSourceStack> context) throws ArnSyntaxException {
+        ItemInput itemc = ItemArgument.getItem(context, name);
         ItemStack itemStack;
         try {
             itemStack = itemc.createItemStack(1, false);
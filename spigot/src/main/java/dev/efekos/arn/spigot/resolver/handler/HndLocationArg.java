@@ -74,8 +74,16 @@ public final class HndLocationArg implements SpigotHndResolver {
     @Override
     public Object resolve(Parameter parameter, SpigotCommandHandlerMethod method,
                           CommandContext<CommandSourceStack> context) {
-        String s = parameter.getAnnotation(CommandArgument.class).value();
-        BlockPos position = BlockPosArgument.getBlockPos(context, s.isEmpty() ? parameter.getName() : s);
+        return resolve(parameter, getName(parameter), method, context);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object resolve(Parameter parameter, String name, SpigotCommandHandlerMethod method,
+                          CommandContext<CommandSourceStack> context) {
+        BlockPos position = BlockPosArgument.getBlockPos(context, name);
         int x = position.getX();
         int y = position.getY();
         int z = position.getZ();
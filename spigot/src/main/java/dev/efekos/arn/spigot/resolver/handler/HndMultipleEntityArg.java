@@ -76,10 +76,18 @@ public final class HndMultipleEntityArg implements SpigotHndResolver {
     @Override
     public Entity[] resolve(Parameter parameter, SpigotCommandHandlerMethod method,
                             CommandContext<CommandSourceStack> context) throws ArnSyntaxException {
-        String s = parameter.getAnnotation(CommandArgument.class).value();
+        return resolve(parameter, getName(parameter), method, context);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Entity[] resolve(Parameter parameter, String name, SpigotCommandHandlerMethod method,
+                            CommandContext<CommandSourceStack> context) throws ArnSyntaxException {
         Collection<? extends net.minecraft.world.entity.Entity> entities = null;
         try {
-            entities = EntityArgument.getEntities(context, s.isEmpty() ? parameter.getName() : s);
+            entities = EntityArgument.getEntities(context, name);
         } catch (CommandSyntaxException e) {
             throw new ArnSyntaxException(e.getMessage());
         }
@@ -74,10 +74,18 @@ public final class HndMultiplePlayerArg implements SpigotHndResolver {
     @Override
     public Player[] resolve(Parameter parameter, SpigotCommandHandlerMethod method,
                             CommandContext<CommandSourceStack> context) throws ArnSyntaxException {
-        String s = parameter.getAnnotation(CommandArgument.class).value();
+        return resolve(parameter, getName(parameter), method, context);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Player[] resolve(Parameter parameter, String name, SpigotCommandHandlerMethod method,
+                            CommandContext<CommandSourceStack> context) throws ArnSyntaxException {
         Collection<ServerPlayer> player;
         try {
-            player = EntityArgument.getPlayers(context, s.isEmpty() ? parameter.getName() : s);
+            player = EntityArgument.getPlayers(context, name);
         } catch (CommandSyntaxException e) {
             throw new ArnSyntaxException(e.getMessage());
         }
@@ -83,8 +83,16 @@ public final class HndTextArg implements SpigotHndResolver {
     @Override
     public BaseComponent resolve(Parameter parameter, SpigotCommandHandlerMethod method,
                                  CommandContext<CommandSourceStack> ctx) {
-        String s = parameter.getAnnotation(CommandArgument.class).value();
-        Component component = ComponentArgument.getComponent(ctx, s.isEmpty() ? parameter.getName() : s);
+        return resolve(parameter, getName(parameter), method, ctx);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BaseComponent resolve(Parameter parameter, String name, SpigotCommandHandlerMethod method,
+                                 CommandContext<CommandSourceStack> ctx) {
+        Component component = ComponentArgument.getComponent(ctx, name);
         if (context == null)
             initializeContext();
         String json = Component.Serializer.toJson(component, context);
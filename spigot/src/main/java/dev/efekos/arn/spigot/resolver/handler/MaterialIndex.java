@@ -0,0 +1,82 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 efekos
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.efekos.arn.spigot.resolver.handler;
+
+import net.minecraft.resources.ResourceLocation;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An immutable index of every non-legacy {@link Material}, keyed with the {@link ResourceLocation} of the block or
+ * item it represents. Used by {@link HndBlockArg} and {@link HndItemArg} to find a {@link Material} with one hash
+ * lookup instead of scanning {@link Material#values()}.
+ *
+ * @author efekos
+ * @since 0.4
+ */
+final class MaterialIndex {
+
+    private MaterialIndex() {
+    }
+
+    /**
+     * Returns the {@link Material} with the given key.
+     *
+     * @param key Key of a block or an item.
+     * @return The {@link Material} with {@code key}, or {@code null} if there isn't one.
+     */
+    static Material get(ResourceLocation key) {
+        return Holder.INDEX.get(key);
+    }
+
+    /**
+     * Holds the index, so it is only built when a {@link Material} is looked up for the first time.
+     */
+    private static final class Holder {
+
+        /**
+         * Prefix of the names of legacy materials. {@link Material#isLegacy()} and {@code Material.LEGACY_PREFIX} are
+         * both deprecated, so the name is checked instead.
+         */
+        private static final String LEGACY_PREFIX = "LEGACY_";
+
+        private static final Map<ResourceLocation, Material> INDEX = build();
+
+        private static Map<ResourceLocation, Material> build() {
+            Map<ResourceLocation, Material> map = new HashMap<>();
+            for (Material material : Material.values()) {
+                if (material.name().startsWith(LEGACY_PREFIX)) continue;
+                NamespacedKey key = material.getKey();
+                map.putIfAbsent(ResourceLocation.fromNamespaceAndPath(key.getNamespace(), key.getKey()), material);
+            }
+            return Map.copyOf(map);
+        }
+
+    }
+
+}